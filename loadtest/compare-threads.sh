@@ -0,0 +1,42 @@
+#!/bin/bash
+
+# 플랫폼 스레드(기본) / 가상 스레드(virtual 프로파일) 모드를 차례로 띄우고 같은 부하를 걸어 비교합니다.
+# 사용법: TOKEN=<access token> ./loadtest/compare-threads.sh
+# 필요: Java 21 toolchain, k6, 실행 중인 MySQL (docker compose up -d)
+
+set -e
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+PROFILES=${PROFILES:-dev}
+RESULT_DIR=build/loadtest
+mkdir -p "$RESULT_DIR"
+
+./gradlew bootJar -PjavaVersion=21 -q
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+run_mode() {
+    local name=$1
+    local profiles=$2
+
+    echo "▶ $name 모드 시작 (profiles: $profiles)"
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" --spring.profiles.active="$profiles" \
+        > "$RESULT_DIR/$name-app.log" 2>&1 &
+    local pid=$!
+
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+    k6 run -q -e BASE_URL="$BASE_URL" -e TOKEN="$TOKEN" \
+        --summary-export "$RESULT_DIR/$name-summary.json" \
+        loadtest/request-throughput.js
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    # 가상 스레드 pinning 발생 여부
+    grep -c "VirtualThread" "$RESULT_DIR/$name-app.log" | xargs echo "  pinning 로그 수:"
+}
+
+run_mode platform "$PROFILES"
+run_mode virtual "$PROFILES,virtual"
+
+echo "✅ 결과: $RESULT_DIR/platform-summary.json, $RESULT_DIR/virtual-summary.json"
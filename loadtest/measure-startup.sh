@@ -0,0 +1,74 @@
+#!/bin/bash
+
+# 기동 시간 / RSS 측정 (./gradlew measureStartup [-Paot] 에서 호출)
+# 모드별로 RUNS 회 기동해서 "Started ... in X seconds" 값과 기동 직후 RSS를 기록합니다.
+# 필요: 실행 중인 MySQL (docker compose up -d), Linux 또는 macOS의 ps
+
+set -e
+
+JAVA_BIN=${JAVA_BIN:-java}
+PROFILES=${PROFILES:-prod}
+RUNS=${RUNS:-5}
+AOT=${AOT:-false}
+RESULT_DIR=build/reports/startup
+REPORT="$RESULT_DIR/startup.md"
+mkdir -p "$RESULT_DIR"
+
+measure() {
+    local name=$1
+    shift
+    local log="$RESULT_DIR/$name.log"
+    local total_time=0
+    local total_rss=0
+
+    for ((i = 1; i <= RUNS; i++)); do
+        "$JAVA_BIN" "$@" -jar "$APP_JAR" --spring.profiles.active="$PROFILES" > "$log" 2>&1 &
+        local pid=$!
+
+        until grep -q "Started .* in" "$log"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "❌ $name 기동 실패 ($log)"
+                exit 1
+            fi
+            sleep 0.2
+        done
+
+        local seconds
+        seconds=$(grep -o "Started .* in [0-9.]* seconds" "$log" | grep -o "in [0-9.]*" | cut -d' ' -f2)
+        local rss_kb
+        rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+
+        total_time=$(echo "$total_time + $seconds" | bc)
+        total_rss=$((total_rss + rss_kb))
+    done
+
+    local avg_time
+    avg_time=$(echo "scale=3; $total_time / $RUNS" | bc)
+    local avg_rss_mb=$((total_rss / RUNS / 1024))
+    echo "| $name | $avg_time | $avg_rss_mb |" >> "$REPORT"
+    echo "  $name: ${avg_time}s, ${avg_rss_mb}MB"
+}
+
+{
+    echo "# 기동 측정 (profiles: $PROFILES, ${RUNS}회 평균)"
+    echo
+    echo "| 모드 | 기동 시간 (s) | RSS (MB) |"
+    echo "| --- | --- | --- |"
+} > "$REPORT"
+
+AOT_FLAG=()
+if [ "$AOT" = "true" ]; then
+    AOT_FLAG=(-Dspring.aot.enabled=true)
+fi
+
+measure jvm
+measure cds -XX:SharedArchiveFile="$CDS_ARCHIVE" -Xshare:auto
+if [ "$AOT" = "true" ]; then
+    measure aot "${AOT_FLAG[@]}"
+    measure aot-cds "${AOT_FLAG[@]}" -XX:SharedArchiveFile="$CDS_ARCHIVE" -Xshare:auto
+fi
+
+echo "✅ 결과: $REPORT"
@@ -0,0 +1,46 @@
+// k6 부하 테스트: 플랫폼 스레드 vs 가상 스레드 처리량/p99 비교
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> loadtest/request-throughput.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN || '';
+
+export const options = {
+    scenarios: {
+        // DB 왕복이 포함된 경로 (헬스 체크의 DataSource 검증 쿼리)
+        db_bound: {
+            executor: 'constant-arrival-rate',
+            exec: 'dbBound',
+            rate: Number(__ENV.RATE || 2000),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 200,
+            maxVUs: Number(__ENV.MAX_VUS || 2000),
+        },
+        // JwtAuthFilter를 거치는 인증 경로
+        authenticated: {
+            executor: 'constant-arrival-rate',
+            exec: 'authenticated',
+            rate: Number(__ENV.RATE || 2000),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 200,
+            maxVUs: Number(__ENV.MAX_VUS || 2000),
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'max'],
+};
+
+export function dbBound() {
+    const res = http.get(`${BASE_URL}/actuator/health`, { tags: { path: 'health' } });
+    check(res, { 'health 200': (r) => r.status === 200 });
+}
+
+export function authenticated() {
+    const res = http.get(`${BASE_URL}/actuator/metrics`, {
+        headers: { Authorization: `Bearer ${TOKEN}` },
+        tags: { path: 'metrics' },
+    });
+    check(res, { 'metrics 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,68 @@
+// k6 WebSocket 부하 테스트: 유휴 연결 수 + 팬아웃 처리량
+// 실행: k6 run -e WS_URL=ws://localhost:8080/ws/collab -e TOKEN=<access token> loadtest/websocket-fanout.js
+// 5만 연결은 k6 쪽도 파일 디스크립터/포트가 부족하므로 ulimit -n 을 올리고, 필요하면 여러 부하 생성기로 나눠서 실행한다.
+import ws from 'k6/ws';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const WS_URL = __ENV.WS_URL || 'ws://localhost:8080/ws/collab';
+const TOKEN = __ENV.TOKEN || '';
+const TOPICS = Number(__ENV.TOPICS || 100);
+const HOLD = Number(__ENV.HOLD_SECONDS || 300);
+const RATE = Number(__ENV.RATE || 1000);
+const PUBLISHERS = Number(__ENV.PUBLISHERS || 50);
+const PUBLISH_INTERVAL_MS = Math.max(1, Math.round((1000 * PUBLISHERS) / RATE));
+
+const received = new Counter('collab_events_received');
+const published = new Counter('collab_events_published');
+
+export const options = {
+    scenarios: {
+        // 구독만 하고 유지하는 유휴 연결
+        idle: {
+            executor: 'ramping-vus',
+            exec: 'idle',
+            startVUs: 0,
+            stages: [
+                { duration: __ENV.RAMP || '2m', target: Number(__ENV.IDLE_CONNECTIONS || 50000) },
+                { duration: `${HOLD}s`, target: Number(__ENV.IDLE_CONNECTIONS || 50000) },
+            ],
+            gracefulRampDown: '30s',
+        },
+        // 초당 RATE건 발행: 발행자 VU마다 연결 1개를 유지하고 그 위에서 주기적으로 보낸다
+        // (메시지마다 새로 연결하면 핸드셰이크/JWT 검증 비용이 팬아웃 측정에 섞인다)
+        publishers: {
+            executor: 'constant-vus',
+            exec: 'publish',
+            vus: PUBLISHERS,
+            duration: __ENV.DURATION || '5m',
+            startTime: __ENV.RAMP || '2m',
+        },
+    },
+};
+
+const url = `${WS_URL}?access_token=${TOKEN}`;
+
+export function idle() {
+    const topic = `board:${__VU % TOPICS}`;
+    const res = ws.connect(url, null, (socket) => {
+        socket.on('open', () => socket.send(JSON.stringify({ type: 'subscribe', topic })));
+        socket.on('message', () => received.add(1));
+        socket.setTimeout(() => socket.close(), HOLD * 1000);
+    });
+    check(res, { 'handshake 101': (r) => r && r.status === 101 });
+}
+
+export function publish() {
+    const res = ws.connect(url, null, (socket) => {
+        socket.on('open', () => {
+            socket.setInterval(() => {
+                const topic = `board:${Math.floor(Math.random() * TOPICS)}`;
+                socket.send(JSON.stringify({ type: 'publish', topic, payload: { at: Date.now() } }));
+                published.add(1);
+            }, PUBLISH_INTERVAL_MS);
+        });
+        socket.setTimeout(() => socket.close(), HOLD * 1000);
+    });
+    check(res, { 'publisher handshake 101': (r) => r && r.status === 101 });
+}
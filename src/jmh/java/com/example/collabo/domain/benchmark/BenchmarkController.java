@@ -0,0 +1,11 @@
+package com.example.collabo.domain.benchmark;
+
+/**
+ * 도메인 Controller 포인트컷(within(com.example.collabo.domain..*Controller))에 걸리는 벤치마크용 대상
+ */
+public class BenchmarkController {
+
+    public long handle(long value) {
+        return value * 31 + 7;
+    }
+}
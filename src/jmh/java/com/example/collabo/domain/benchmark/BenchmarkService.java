@@ -0,0 +1,17 @@
+package com.example.collabo.domain.benchmark;
+
+import com.example.collabo.global.aop.Logged;
+import com.example.collabo.global.aop.Monitored;
+
+/**
+ * 서비스 포인트컷(execution(* com.example.collabo.domain..*Service.*(..)))과
+ * @Monitored / @Logged 양쪽에 걸리는 벤치마크용 대상
+ */
+@Logged
+@Monitored
+public class BenchmarkService {
+
+    public long handle(long value) {
+        return value * 31 + 7;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.collabo.global.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.example.collabo.domain.benchmark.BenchmarkService;
+import com.example.collabo.global.config.InstrumentationConfig;
+import com.example.collabo.global.config.LoggingProperties;
+import com.example.collabo.global.config.PerformanceProperties;
+import com.example.collabo.global.metrics.MethodLatencyRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+/**
+ * 서비스 메서드 1회 호출의 계측 비용 비교 (로그 출력은 끄고 측정/프록시 비용만 본다)
+ * - direct: 프록시 없음
+ * - pointcut: PerformanceAspect + ExceptionLoggingAspect (기존 넓은 포인트컷 모드, @Aspect 2개)
+ * - annotation: InstrumentationInterceptor 1개 (collabo.instrumentation.mode=annotation)
+ */
+@State(Scope.Thread)
+@Threads(4)
+public class InstrumentationBenchmark {
+
+    private BenchmarkService target;
+    private BenchmarkService pointcutProxy;
+    private BenchmarkService annotationProxy;
+    private long value;
+
+    @Setup
+    public void setUp() {
+        quietLogs();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LogSampler logSampler = new LogSampler(new LoggingProperties());
+        target = new BenchmarkService();
+
+        AspectJProxyFactory aspectFactory = new AspectJProxyFactory(target);
+        aspectFactory.setProxyTargetClass(true);
+        aspectFactory.addAspect(new PerformanceAspect(new MethodLatencyRecorder(meterRegistry, new PerformanceProperties())));
+        aspectFactory.addAspect(new ExceptionLoggingAspect(logSampler));
+        pointcutProxy = aspectFactory.getProxy();
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(InstrumentationConfig.instrumentedPointcut(),
+                new InstrumentationInterceptor(new MethodLatencyRecorder(meterRegistry, new PerformanceProperties()), logSampler)));
+        proxyFactory.setFrozen(true);
+        annotationProxy = (BenchmarkService) proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public long direct() {
+        return target.handle(value++);
+    }
+
+    @Benchmark
+    public long pointcut() {
+        return pointcutProxy.handle(value++);
+    }
+
+    @Benchmark
+    public long annotation() {
+        return annotationProxy.handle(value++);
+    }
+
+    // 스레드 4개가 동시에 SLF4J 초기화에 들어가면 늦은 스레드는 LoggerContext 대신 SubstituteLoggerFactory를 받는다
+    private static synchronized void quietLogs() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+        context.getLogger("com.example.collabo").setLevel(Level.WARN);
+    }
+}
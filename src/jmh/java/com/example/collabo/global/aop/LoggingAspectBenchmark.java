@@ -0,0 +1,126 @@
+package com.example.collabo.global.aop;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.example.collabo.domain.benchmark.BenchmarkController;
+import com.example.collabo.global.config.LoggingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 컨트롤러 로깅 Aspect의 요청당 오버헤드 측정
+ * - SYNC: 동기 파일 appender (기존 설정)
+ * - ASYNC: AsyncAppender + 버퍼링 파일 appender (async-log 프로파일)
+ * - DISABLED: INFO 비활성화 (Aspect가 아무것도 하지 않아야 함)
+ * direct()와의 차이가 프록시 + 로깅 비용이다.
+ */
+@State(Scope.Thread)
+@Threads(4)
+public class LoggingAspectBenchmark {
+
+    public enum Mode {
+        SYNC, ASYNC, DISABLED
+    }
+
+    /**
+     * Logback 설정은 프로세스 전역이므로 스레드별이 아니라 한 번만 구성한다
+     */
+    @State(Scope.Benchmark)
+    public static class Logging {
+
+        @Param({"SYNC", "ASYNC", "DISABLED"})
+        private Mode mode;
+
+        private Appender<ILoggingEvent> appender;
+
+        @Setup
+        public void setUp() {
+            LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+            encoder.start();
+
+            FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+            fileAppender.setContext(context);
+            fileAppender.setFile("build/jmh-logs/logging-aspect-" + mode.name().toLowerCase() + ".log");
+            fileAppender.setAppend(false);
+            fileAppender.setEncoder(encoder);
+            fileAppender.setImmediateFlush(mode != Mode.ASYNC);
+            fileAppender.start();
+
+            if (mode == Mode.ASYNC) {
+                AsyncAppender asyncAppender = new AsyncAppender();
+                asyncAppender.setContext(context);
+                asyncAppender.setQueueSize(8192);
+                asyncAppender.setNeverBlock(true);
+                asyncAppender.addAppender(fileAppender);
+                asyncAppender.start();
+                appender = asyncAppender;
+            } else {
+                appender = fileAppender;
+            }
+
+            ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+            root.detachAndStopAllAppenders();
+            root.addAppender(appender);
+            root.setLevel(Level.INFO);
+            context.getLogger(LoggingAspect.class).setLevel(mode == Mode.DISABLED ? Level.WARN : Level.INFO);
+        }
+
+        @TearDown
+        public void tearDown() {
+            appender.stop();
+        }
+    }
+
+    private BenchmarkController target;
+    private BenchmarkController proxy;
+    private long value;
+
+    // 스레드 상태보다 Logging이 먼저 구성되도록 인자로 받는다 (SLF4J 초기화 전에 LoggingAspect가 로드되지 않게)
+    @Setup
+    public void setUp(Logging logging) {
+        target = new BenchmarkController();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggingAspect(new LogSampler(new LoggingProperties())));
+        proxy = proxyFactory.getProxy();
+
+        // RequestContextHolder는 스레드 로컬이므로 스레드마다 설정
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/benchmark")));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public long direct() {
+        return target.handle(value++);
+    }
+
+    @Benchmark
+    public long proxied() {
+        return proxy.handle(value++);
+    }
+}
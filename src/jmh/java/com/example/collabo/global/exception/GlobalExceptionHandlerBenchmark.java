@@ -0,0 +1,63 @@
+package com.example.collabo.global.exception;
+
+import com.example.collabo.global.common.CommonErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에러 응답 생성 비용 비교 (스캐너/잘못된 토큰 폭주 시 에러 경로 비용)
+ * - jackson*: 기존 방식 (CommonErrorResponse 빌드 + Jackson 직렬화)
+ * - template*: ErrorResponseWriter (미리 만든 바이트 + timestamp)
+ */
+@State(Scope.Thread)
+public class GlobalExceptionHandlerBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseWriter errorResponseWriter;
+    private CustomException customException;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        errorResponseWriter = new ErrorResponseWriter();
+        customException = new CustomException(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Benchmark
+    public byte[] jacksonCustomException() throws Exception {
+        CommonErrorResponse body = CommonErrorResponse.builder()
+                .message(customException.getMessage())
+                .error(customException.getStatusCode().getReasonPhrase())
+                .statusCode(customException.getStatusCode().value())
+                .timestamp(LocalDateTime.now())
+                .build();
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse templateCustomException() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        errorResponseWriter.write(response, customException.getErrorCode());
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse jacksonToResponse() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CommonErrorResponse body = CommonErrorResponse.builder()
+                .message(customException.getMessage())
+                .error(customException.getStatusCode().getReasonPhrase())
+                .statusCode(customException.getStatusCode().value())
+                .timestamp(LocalDateTime.now())
+                .build();
+        objectMapper.writeValue(response.getOutputStream(), body);
+        return response;
+    }
+}
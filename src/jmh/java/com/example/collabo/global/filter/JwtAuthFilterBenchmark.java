@@ -0,0 +1,49 @@
+package com.example.collabo.global.filter;
+
+import com.example.collabo.global.jwt.JwtBenchmarkSupport;
+import com.example.collabo.global.jwt.JwtProvider;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtAuthFilter 요청당 인증 비용 측정 (토큰 추출 → 검증 → SecurityContext 설정 → 체인 진행)
+ */
+@State(Scope.Thread)
+@Threads(4)
+public class JwtAuthFilterBenchmark {
+
+    @Param({"0", "10000"})
+    private int verifiedCacheSize;
+
+    private JwtAuthFilter jwtAuthFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        JwtProvider jwtProvider = JwtBenchmarkSupport.jwtProvider(JwtBenchmarkSupport.randomSecret(), verifiedCacheSize);
+        jwtAuthFilter = new JwtAuthFilter(jwtProvider, JwtBenchmarkSupport.tokenDenylist());
+
+        request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + jwtProvider.generateAccessToken(1L, "bench@collabo.com"));
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public void doFilter(Blackhole blackhole) throws Exception {
+        jwtAuthFilter.doFilterInternal(request, response, filterChain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
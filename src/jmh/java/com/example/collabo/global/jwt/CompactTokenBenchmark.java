@@ -0,0 +1,56 @@
+package com.example.collabo.global.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JWT vs 바이너리 토큰(ct1.) 검증 비용 비교
+ * - jwtUncached: Base64 + JSON 파싱 + HMAC-SHA512 (검증 캐시 없음)
+ * - jwtCached: SHA-256 다이제스트 후 캐시 조회
+ * - compact: Base64 디코딩(재사용 버퍼) + HMAC-SHA256 + 정수 읽기
+ *
+ * ./gradlew jmh -PjmhInclude=CompactTokenBenchmark  (-prof gc로 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class CompactTokenBenchmark {
+
+    private JwtProvider uncachedProvider;
+    private JwtProvider cachedProvider;
+    private String jwt;
+    private String compactToken;
+    private VerifiedToken source;
+
+    @Setup
+    public void setUp() {
+        String secret = JwtBenchmarkSupport.randomSecret();
+        uncachedProvider = JwtBenchmarkSupport.jwtProvider(secret, 0);
+        cachedProvider = JwtBenchmarkSupport.jwtProvider(secret, 10_000);
+        jwt = uncachedProvider.generateAccessToken(1L, "bench@collabo.com");
+        source = uncachedProvider.verify(jwt);
+        compactToken = uncachedProvider.generateCompactToken(source, source.expiresAtMillis());
+    }
+
+    @Benchmark
+    public VerifiedToken jwtUncached() {
+        return uncachedProvider.verify(jwt);
+    }
+
+    @Benchmark
+    public VerifiedToken jwtCached() {
+        return cachedProvider.verify(jwt);
+    }
+
+    @Benchmark
+    public VerifiedToken compact() {
+        return uncachedProvider.verify(compactToken);
+    }
+
+    @Benchmark
+    public String issueCompact() {
+        return uncachedProvider.generateCompactToken(source, source.expiresAtMillis());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.config.CompactTokenProperties;
+import com.example.collabo.global.config.JwtConfig;
+import com.example.collabo.global.config.JwtSigningProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 벤치마크용 JwtProvider 생성 헬퍼 (스프링 컨텍스트 없이 직접 조립)
+ */
+public final class JwtBenchmarkSupport {
+
+    private JwtBenchmarkSupport() {
+    }
+
+    public static String randomSecret() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+
+    public static JwtConfig jwtConfig(String base64Secret) {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setAccessSecret(base64Secret);
+        return jwtConfig;
+    }
+
+    public static TokenDenylist tokenDenylist() {
+        try {
+            Path file = Files.createTempFile("token-denylist", ".bin");
+            file.toFile().deleteOnExit();
+            return new TokenDenylist(file.toString(), 1 << 16);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static JwtProvider jwtProvider(String base64Secret, int verifiedCacheSize) {
+        return jwtProvider(base64Secret, verifiedCacheSize, "HS512");
+    }
+
+    /**
+     * @param algorithm HS512 | ES256 (ES256이면 임시 디렉터리에 키 링을 만든다)
+     */
+    public static JwtProvider jwtProvider(String base64Secret, int verifiedCacheSize, String algorithm) {
+        JwtConfig jwtConfig = jwtConfig(base64Secret);
+        JwtSigningProperties signingProperties = new JwtSigningProperties();
+        signingProperties.setAlgorithm(algorithm);
+        try {
+            Path keyDir = Files.createTempDirectory("jwt-keys");
+            keyDir.toFile().deleteOnExit();
+            signingProperties.setKeyDir(keyDir.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(signingProperties, jwtConfig);
+        jwtKeyRing.init();
+        CompactTokenProperties compactProperties = new CompactTokenProperties();
+        compactProperties.setEnabled(true);
+
+        JwtProvider jwtProvider = new JwtProvider(
+                jwtConfig,
+                new JwtSecretHashUtil(),
+                new VerifiedTokenCache(verifiedCacheSize),
+                jwtKeyRing,
+                signingProperties,
+                new CompactTokenCodec(jwtConfig, compactProperties)
+        );
+        jwtProvider.init();
+        return jwtProvider;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.collabo.global.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import io.jsonwebtoken.Claims;
+
+import javax.crypto.SecretKey;
+
+/**
+ * 토큰 발급/파싱/검증 비용 측정
+ * - verifyUncached: 캐시 비활성화 (매 요청 HMAC-SHA512 + JSON 파싱)
+ * - verifyCached: 같은 토큰 재사용 시 다이제스트 조회만 수행
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class JwtProviderBenchmark {
+
+    private JwtProvider uncachedProvider;
+    private JwtProvider cachedProvider;
+    private JwtSecretHashUtil jwtSecretHashUtil;
+    private String base64Secret;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        base64Secret = JwtBenchmarkSupport.randomSecret();
+        uncachedProvider = JwtBenchmarkSupport.jwtProvider(base64Secret, 0);
+        cachedProvider = JwtBenchmarkSupport.jwtProvider(base64Secret, 10_000);
+        jwtSecretHashUtil = new JwtSecretHashUtil();
+        token = uncachedProvider.generateAccessToken(1L, "bench@collabo.com");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return uncachedProvider.generateAccessToken(1L, "bench@collabo.com");
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return uncachedProvider.parseClaims(token);
+    }
+
+    /**
+     * 기존 필터 경로: validateToken + parseClaims (2회 파싱)
+     */
+    @Benchmark
+    public Claims validateThenParse() {
+        if (!uncachedProvider.validateToken(token)) {
+            return null;
+        }
+        return uncachedProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyUncached() {
+        return uncachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public SecretKey getSecretKey() {
+        return jwtSecretHashUtil.getSecretKey(base64Secret, "HmacSHA512");
+    }
+}
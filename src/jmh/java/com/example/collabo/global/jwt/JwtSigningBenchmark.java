@@ -0,0 +1,43 @@
+package com.example.collabo.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 서명 알고리즘별 발급/검증 비용 비교 (검증 캐시 비활성화)
+ * - HS512: jjwt 파서 (공유 비밀키 HMAC)
+ * - ES256: Es256JwsVerifier (kid별 Signature 풀 + 헤더 캐시)
+ *
+ * ./gradlew jmh -PjmhInclude=JwtSigningBenchmark
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class JwtSigningBenchmark {
+
+    @Param({"HS512", "ES256"})
+    private String algorithm;
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = JwtBenchmarkSupport.jwtProvider(JwtBenchmarkSupport.randomSecret(), 0, algorithm);
+        token = jwtProvider.generateAccessToken(1L, "bench@collabo.com");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtProvider.generateAccessToken(1L, "bench@collabo.com");
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtProvider.parseClaims(token);
+    }
+}
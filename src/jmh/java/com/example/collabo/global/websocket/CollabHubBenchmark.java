@@ -0,0 +1,49 @@
+package com.example.collabo.global.websocket;
+
+import com.example.collabo.global.config.WebSocketProperties;
+import com.example.collabo.global.jwt.JwtBenchmarkSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 토픽 1개에 구독자 N명일 때 발행 1건의 팬아웃 비용 (소켓 I/O 제외)
+ * writer를 호출 스레드에서 바로 실행하므로 송신 큐 적재 + drain 경로가 모두 포함된다.
+ * 4개 스레드가 동시에 같은 토픽으로 발행하므로 연결별 drain 경합도 포함된다.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class CollabHubBenchmark {
+
+    @Param({"100", "10000"})
+    private int subscribers;
+
+    private CollabHub collabHub;
+    private TextMessage message;
+
+    @Setup
+    public void setUp() {
+        WebSocketProperties properties = new WebSocketProperties();
+        collabHub = new CollabHub(properties, new SimpleMeterRegistry(), JwtBenchmarkSupport.tokenDenylist(), Runnable::run);
+        for (int i = 0; i < subscribers; i++) {
+            CollabSession session = collabHub.register(new NoopWebSocketSession("s" + i), String.valueOf(i),
+                    i, Long.MAX_VALUE);
+            collabHub.subscribe(session, "board:1");
+        }
+        message = new TextMessage(
+                "{\"type\":\"event\",\"topic\":\"board:1\",\"from\":\"1\",\"payload\":{\"cardId\":42,\"column\":\"done\"}}"
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public int publish() {
+        return collabHub.publish("board:1", message);
+    }
+}
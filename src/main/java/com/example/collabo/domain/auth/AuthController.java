@@ -0,0 +1,67 @@
+package com.example.collabo.domain.auth;
+
+import com.example.collabo.domain.auth.dto.CompactTokenResponse;
+import com.example.collabo.domain.auth.dto.LoginRequest;
+import com.example.collabo.domain.auth.dto.RefreshTokenRequest;
+import com.example.collabo.domain.auth.dto.TokenResponse;
+import com.example.collabo.global.aop.Logged;
+import com.example.collabo.global.aop.Sensitive;
+import com.example.collabo.global.common.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Auth", description = "인증 토큰 API")
+@Logged
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AuthService authService;
+
+    @Operation(summary = "로그인", description = "이메일/비밀번호로 액세스/리프레시 토큰을 발급합니다.")
+    @PostMapping("/login")
+    public ResponseEntity<CommonResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request) {
+        TokenResponse tokens = authService.login(request.getEmail(), request.getPassword());
+        return ResponseEntity.ok(new CommonResponse<>("로그인 성공", HttpStatus.OK.value(), tokens));
+    }
+
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스/리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 폐기됩니다.")
+    @PostMapping("/refresh")
+    public ResponseEntity<CommonResponse<TokenResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        TokenResponse tokens = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(new CommonResponse<>("토큰 재발급 성공", HttpStatus.OK.value(), tokens));
+    }
+
+    @Operation(summary = "로그아웃", description = "액세스 토큰과 리프레시 토큰을 만료 전에 폐기합니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<CommonResponse<Void>> logout(
+            @Sensitive @RequestHeader(value = "Authorization", required = false) String authorization,
+            @Valid @RequestBody RefreshTokenRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logout(accessToken, request.getRefreshToken());
+        return ResponseEntity.ok(new CommonResponse<>("로그아웃 성공", HttpStatus.OK.value(), null));
+    }
+
+    @Operation(summary = "내부 호출 토큰 발급", description = "액세스 토큰을 서비스 간 호출용 바이너리 토큰(ct1.)으로 교환합니다.")
+    @PostMapping("/compact-token")
+    public ResponseEntity<CommonResponse<CompactTokenResponse>> compactToken(
+            @Sensitive @RequestHeader(value = "Authorization", required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        CompactTokenResponse token = authService.issueCompactToken(accessToken);
+        return ResponseEntity.ok(new CommonResponse<>("내부 호출 토큰 발급 성공", HttpStatus.OK.value(), token));
+    }
+}
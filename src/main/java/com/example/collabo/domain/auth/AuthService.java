@@ -0,0 +1,123 @@
+package com.example.collabo.domain.auth;
+
+import com.example.collabo.domain.auth.dto.CompactTokenResponse;
+import com.example.collabo.domain.auth.dto.TokenResponse;
+import com.example.collabo.domain.user.UserAccount;
+import com.example.collabo.domain.user.UserService;
+import com.example.collabo.global.aop.Logged;
+import com.example.collabo.global.aop.Monitored;
+import com.example.collabo.global.aop.Sensitive;
+import com.example.collabo.global.exception.CustomException;
+import com.example.collabo.global.exception.ErrorCode;
+import com.example.collabo.global.exception.specific.ResourceNotFoundException;
+import com.example.collabo.global.jwt.CompactTokenCodec;
+import com.example.collabo.global.jwt.JwtProvider;
+import com.example.collabo.global.jwt.TokenDenylist;
+import com.example.collabo.global.jwt.VerifiedToken;
+import com.example.collabo.global.security.PasswordHashingService;
+import com.example.collabo.global.security.RoleGrants;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Logged
+@Monitored
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    private final JwtProvider jwtProvider;
+    private final TokenDenylist tokenDenylist;
+    private final UserService userService;
+    private final PasswordHashingService passwordHashingService;
+    private final CompactTokenCodec compactTokenCodec;
+    private final RoleGrants roleGrants;
+
+    /**
+     * 계정이 없어도 더미 해시와 비교한 뒤 같은 AUTHENTICATION_FAILED로 응답한다.
+     * 로그인 성공 시 저장된 해시가 현재 설정보다 약하면(알고리즘/강도 변경) 새 설정으로 재해싱해서 저장한다.
+     * 실패 시 예외 로그에 비밀번호가 남지 않도록 rawPassword는 @Sensitive로 가린다.
+     */
+    public TokenResponse login(String email, @Sensitive String rawPassword) {
+        UserAccount user = userService.findByEmail(email).orElse(null);
+        if (user == null) {
+            // 없는 계정도 해싱 비용을 똑같이 써서 응답 시간으로 가입 여부가 드러나지 않게 한다
+            passwordHashingService.matchesDummy(rawPassword);
+            throw new CustomException(ErrorCode.AUTHENTICATION_FAILED);
+        }
+
+        if (!passwordHashingService.matches(rawPassword, user.password())) {
+            throw new CustomException(ErrorCode.AUTHENTICATION_FAILED);
+        }
+
+        if (passwordHashingService.needsRehash(user.password())) {
+            userService.changePassword(user, passwordHashingService.encode(rawPassword));
+        }
+
+        return issueTokens(user);
+    }
+
+    /**
+     * 역할은 발급할 때마다 RoleGrants로 다시 정한다 (설정에서 빠진 계정은 다음 재발급부터 USER만 가진다)
+     */
+    public TokenResponse issueTokens(UserAccount user) {
+        return new TokenResponse(
+                jwtProvider.generateAccessToken(user.userId(), user.email(), roleGrants.roleMaskOf(user.email())),
+                jwtProvider.generateRefreshToken(user.userId())
+        );
+    }
+
+    /**
+     * 리프레시 토큰 회전: 사용한 리프레시 토큰은 폐기하고 새 토큰 쌍을 발급한다.
+     * 같은 리프레시 토큰이 두 번 사용되면 REVOKED_TOKEN, 폐기 목록이 가득 차서 폐기를 기록할 수 없으면
+     * 재사용을 막을 수 없으므로 발급하지 않는다 (TOKEN_DENYLIST_FULL)
+     */
+    public TokenResponse refresh(@Sensitive String refreshToken) {
+        Claims claims = jwtProvider.parseRefreshToken(refreshToken);
+
+        long jtiHash = TokenDenylist.hashJti(claims.getId());
+        if (!tokenDenylist.revoke(jtiHash, claims.getExpiration().getTime())) {
+            throw new CustomException(ErrorCode.REVOKED_TOKEN);
+        }
+
+        UserAccount user = userService.findById(Long.valueOf(claims.getSubject()))
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+        return issueTokens(user);
+    }
+
+    public void logout(@Sensitive String accessToken, @Sensitive String refreshToken) {
+        if (accessToken != null) {
+            VerifiedToken verified = jwtProvider.verify(accessToken);
+            if (verified != null) {
+                tokenDenylist.revoke(verified.jtiHash(), verified.expiresAtMillis());
+            }
+        }
+
+        Claims claims = jwtProvider.parseRefreshToken(refreshToken);
+        tokenDenylist.revoke(TokenDenylist.hashJti(claims.getId()), claims.getExpiration().getTime());
+    }
+
+    /**
+     * 액세스 토큰(JWT)을 내부 서비스 간 호출용 바이너리 토큰으로 교환한다. (jwt.compact.enabled)
+     */
+    public CompactTokenResponse issueCompactToken(@Sensitive String accessToken) {
+        if (!compactTokenCodec.isEnabled()) {
+            throw new CustomException(ErrorCode.NOT_SUPPORTED_TOKEN);
+        }
+        if (accessToken == null || accessToken.startsWith(CompactTokenCodec.PREFIX)) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        VerifiedToken verified = jwtProvider.verify(accessToken);
+        if (verified == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (tokenDenylist.isRevoked(verified.jtiHash())) {
+            throw new CustomException(ErrorCode.REVOKED_TOKEN);
+        }
+
+        // 원본 토큰보다 오래 살지 않도록 한다 (토큰에는 초 단위로 저장)
+        long expiresAtMillis = Math.min(verified.expiresAtMillis(),
+                System.currentTimeMillis() + compactTokenCodec.validity().toMillis()) / 1000 * 1000;
+        return new CompactTokenResponse(jwtProvider.generateCompactToken(verified, expiresAtMillis), expiresAtMillis);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.collabo.domain.auth;
+
+import com.example.collabo.global.jwt.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 토큰 검증용 공개 키 목록 (RFC 7517 JWK Set)
+ * 다른 서비스는 이 문서를 캐시해 두고 토큰 헤더의 kid로 키를 골라 직접 검증한다. 표준 형식이므로 CommonResponse로 감싸지 않는다.
+ */
+@Tag(name = "Auth", description = "인증 토큰 API")
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jwt.signing", name = "algorithm", havingValue = "ES256")
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @Operation(summary = "JWKS", description = "액세스/리프레시 토큰 서명 검증용 공개 키 목록을 반환합니다.")
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtKeyRing.jwksMaxAge()).cachePublic())
+                .body(jwtKeyRing.jwks());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.collabo.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CompactTokenResponse {
+
+    private String token;
+    private long expiresAt; // epoch millis
+}
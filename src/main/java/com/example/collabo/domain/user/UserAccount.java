@@ -0,0 +1,14 @@
+package com.example.collabo.domain.user;
+
+/**
+ * 인증/조회용 유저 프로젝션 (엔티티가 아니므로 영속성 컨텍스트/변경 감지 대상이 아님)
+ * version은 UserEntity의 @Version 값으로, 조회 API의 ETag에 사용한다.
+ * 예외 로그 파라미터로 출력될 수 있으므로 toString에서 비밀번호 해시를 가린다.
+ */
+public record UserAccount(Long userId, String email, String password, long version) {
+
+    @Override
+    public String toString() {
+        return "UserAccount[userId=" + userId + ", email=" + email + ", password=***, version=" + version + "]";
+    }
+}
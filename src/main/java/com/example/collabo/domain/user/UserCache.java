@@ -0,0 +1,115 @@
+package com.example.collabo.domain.user;
+
+import com.example.collabo.global.concurrent.SingleFlight;
+import com.example.collabo.global.config.UserCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 유저 조회 캐시 (Caffeine, W-TinyLFU)
+ * - 엔티티가 아닌 UserAccount 프로젝션을 저장 (불변, 영속성 컨텍스트와 무관)
+ * - email / userId 두 가지 키로 조회. 한쪽 조회 결과로 다른 쪽을 채우지 않는다
+ *   (그 put이 동시에 실행된 invalidate보다 늦게 들어가면 변경 전 값이 TTL 동안 남는다)
+ * - 존재하지 않는 이메일은 Optional.empty()로 짧게 캐싱 (negative caching)
+ * - 미스 시 loader는 Caffeine compute 밖(호출 스레드)에서 실행한다. 같은 키 동시 미스는 하나의 future를 공유하고,
+ *   loader가 micro-batch window만큼 기다려도 캐시 내부 해시 빈을 잡고 있지 않는다 (AsyncCache)
+ * - 지표: cache.gets / cache.evictions 등 (cache=user.byEmail, user.byId)
+ */
+@Component
+public class UserCache {
+
+    private final boolean enabled;
+    private final AsyncCache<String, Optional<UserAccount>> byEmail;
+    private final AsyncCache<Long, Optional<UserAccount>> byId;
+
+    public UserCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.byEmail = build(properties);
+        this.byId = build(properties);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail.synchronous(), "user.byEmail");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId.synchronous(), "user.byId");
+    }
+
+    public Optional<UserAccount> getByEmail(String email, Function<String, Optional<UserAccount>> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        return load(byEmail, email, loader);
+    }
+
+    public Optional<UserAccount> getById(Long userId, Function<Long, Optional<UserAccount>> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        return load(byId, userId, loader);
+    }
+
+    public void invalidate(Long userId, String email) {
+        if (userId != null) {
+            byId.synchronous().invalidate(userId);
+        }
+        if (email != null) {
+            byEmail.synchronous().invalidate(email);
+        }
+    }
+
+    public void invalidateAll() {
+        byId.synchronous().invalidateAll();
+        byEmail.synchronous().invalidateAll();
+    }
+
+    /**
+     * 처음 미스한 호출자가 빈 future를 등록하고, compute가 끝난 뒤 자기 스레드에서 loader를 실행해 완료한다.
+     * loader가 실패하면 future가 예외로 완료되어 캐시에서 빠진다.
+     */
+    private static <K> Optional<UserAccount> load(AsyncCache<K, Optional<UserAccount>> cache, K key,
+                                                  Function<K, Optional<UserAccount>> loader) {
+        CompletableFuture<Optional<UserAccount>> loading = new CompletableFuture<>();
+        CompletableFuture<Optional<UserAccount>> future = cache.get(key, (k, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return SingleFlight.join(future);
+    }
+
+    private static <K> AsyncCache<K, Optional<UserAccount>> build(UserCacheProperties properties) {
+        long ttlNanos = properties.getTtl().toNanos();
+        long negativeTtlNanos = properties.getNegativeTtl().toNanos();
+
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<K, Optional<UserAccount>>() {
+                    @Override
+                    public long expireAfterCreate(K key, Optional<UserAccount> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(K key, Optional<UserAccount> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(K key, Optional<UserAccount> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .executor(Runnable::run) // 정리/통계 작업을 공용 ForkJoinPool로 넘기지 않는다
+                .recordStats()
+                .buildAsync();
+    }
+}
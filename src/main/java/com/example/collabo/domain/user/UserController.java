@@ -0,0 +1,122 @@
+package com.example.collabo.domain.user;
+
+import com.example.collabo.domain.user.dto.UserPageResponse;
+import com.example.collabo.domain.user.dto.UserSummaryResponse;
+import com.example.collabo.global.aop.Logged;
+import com.example.collabo.global.common.CommonResponse;
+import com.example.collabo.global.exception.ErrorCode;
+import com.example.collabo.global.exception.specific.ForbiddenException;
+import com.example.collabo.global.exception.specific.ResourceNotFoundException;
+import com.example.collabo.global.security.AuthorityRegistry;
+import com.example.collabo.global.security.Role;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@Logged
+@Tag(name = "User", description = "유저 조회 API")
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final UserService userService;
+    private final ObjectWriter summaryWriter;
+
+    public UserController(UserService userService, ObjectMapper objectMapper) {
+        this.userService = userService;
+        this.summaryWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 행마다 응답 스트림을 닫지 않도록
+    }
+
+    @Operation(summary = "유저 목록", description = "userId 키셋 페이지네이션. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다. (ADMIN)")
+    @GetMapping
+    public ResponseEntity<CommonResponse<UserPageResponse>> getUsers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        UserPageResponse page = userService.findPage(cursor, pageSize);
+        return ResponseEntity.ok(new CommonResponse<>("유저 목록 조회 성공", HttpStatus.OK.value(), page));
+    }
+
+    @Operation(summary = "내 정보", description = "If-None-Match가 현재 ETag와 같으면 304를 응답합니다.")
+    @GetMapping("/me")
+    public ResponseEntity<CommonResponse<UserSummaryResponse>> getMe(@AuthenticationPrincipal String userId,
+                                                                     WebRequest request) {
+        return findUser(Long.valueOf(userId), request);
+    }
+
+    @Operation(summary = "유저 조회", description = "본인 또는 ADMIN만 조회할 수 있습니다. If-None-Match가 현재 ETag와 같으면 304를 응답합니다.")
+    @GetMapping("/{userId}")
+    public ResponseEntity<CommonResponse<UserSummaryResponse>> getUser(@PathVariable Long userId,
+                                                                       Authentication authentication,
+                                                                       WebRequest request) {
+        // 응답에 이메일이 들어가므로 다른 유저는 존재 여부도 알 수 없게 조회 전에 거절
+        boolean admin = (AuthorityRegistry.maskOf(authentication.getAuthorities()) & Role.ADMIN.bit()) != 0;
+        if (!admin && !String.valueOf(userId).equals(authentication.getName())) {
+            throw new ForbiddenException();
+        }
+        return findUser(userId, request);
+    }
+
+    private ResponseEntity<CommonResponse<UserSummaryResponse>> findUser(Long userId, WebRequest request) {
+        UserAccount user = userService.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+
+        // 엔티티 version으로 ETag를 만들어서, 바뀌지 않았으면 응답 객체 생성/직렬화 없이 304
+        String etag = "\"u" + user.userId() + "-v" + user.version() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new CommonResponse<>("유저 조회 성공", HttpStatus.OK.value(),
+                        new UserSummaryResponse(user.userId(), user.email())));
+    }
+
+    /**
+     * 전체 유저를 NDJSON(한 줄에 JSON 하나)으로 스트리밍한다.
+     * DB 커서에서 읽은 행을 바로 응답에 쓰므로 유저 수와 무관하게 메모리 사용량이 일정하다.
+     */
+    @Operation(summary = "유저 내보내기", description = "전체 유저를 NDJSON으로 스트리밍합니다. (ADMIN)")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportUsers(HttpServletRequest request) {
+        ShallowEtagHeaderFilter.disableContentCaching(request); // ConditionalGetFilter가 본문을 버퍼링하지 않도록
+        StreamingResponseBody body = outputStream -> {
+            BufferedOutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+            userService.exportAll(user -> {
+                try {
+                    summaryWriter.writeValue(out, user);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 종료 시 쿼리도 중단
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
@@ -22,4 +22,13 @@ public class UserEntity {
 
     @Column(name = "password", nullable = false)
     private String password;
+
+    // 변경 시마다 증가 (낙관적 락 + 조회 API의 ETag)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.collabo.domain.user;
+
+import com.example.collabo.global.concurrent.MicroBatcher;
+import com.example.collabo.global.concurrent.SingleFlight;
+import com.example.collabo.global.config.CoalescingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 캐시 미스 시 DB 조회 (UserCache의 loader)
+ *
+ * 캐시가 켜져 있으면 Caffeine이 같은 키의 동시 미스를 이미 한 번의 loader 호출로 합치므로,
+ * 여기서는 주로 서로 다른 키를 묶는 micro-batching(batch-window > 0)이 효과가 있다.
+ * 캐시가 꺼져 있으면 single-flight가 같은 키 동시 조회를 합친다.
+ */
+@Component
+public class UserLoader {
+
+    private final UserQueryRepository userQueryRepository;
+    private final boolean enabled;
+    private final SingleFlight<String, Optional<UserAccount>> byEmailFlight;
+    private final SingleFlight<Long, Optional<UserAccount>> byIdFlight;
+    private final MicroBatcher<String, UserAccount> byEmailBatcher;
+    private final MicroBatcher<Long, UserAccount> byIdBatcher;
+
+    public UserLoader(UserQueryRepository userQueryRepository,
+                      CoalescingProperties properties,
+                      MeterRegistry meterRegistry) {
+        this.userQueryRepository = userQueryRepository;
+        this.enabled = properties.isEnabled();
+        this.byEmailFlight = new SingleFlight<>("user.byEmail", meterRegistry);
+        this.byIdFlight = new SingleFlight<>("user.byId", meterRegistry);
+
+        long windowNanos = properties.getBatchWindow().toNanos();
+        if (enabled && windowNanos > 0) {
+            this.byEmailBatcher = new MicroBatcher<>("user.byEmail.batch", windowNanos, properties.getMaxBatchSize(),
+                    this::loadByEmails, meterRegistry);
+            this.byIdBatcher = new MicroBatcher<>("user.byId.batch", windowNanos, properties.getMaxBatchSize(),
+                    this::loadByIds, meterRegistry);
+        } else {
+            this.byEmailBatcher = null;
+            this.byIdBatcher = null;
+        }
+    }
+
+    public Optional<UserAccount> findByEmail(String email) {
+        if (!enabled) {
+            return userQueryRepository.findByEmail(email);
+        }
+        if (byEmailBatcher != null) {
+            return byEmailFlight.execute(email, () -> Optional.ofNullable(byEmailBatcher.load(email)));
+        }
+        return byEmailFlight.execute(email, () -> userQueryRepository.findByEmail(email));
+    }
+
+    public Optional<UserAccount> findById(Long userId) {
+        if (!enabled) {
+            return userQueryRepository.findById(userId);
+        }
+        if (byIdBatcher != null) {
+            return byIdFlight.execute(userId, () -> Optional.ofNullable(byIdBatcher.load(userId)));
+        }
+        return byIdFlight.execute(userId, () -> userQueryRepository.findById(userId));
+    }
+
+    private Map<Long, UserAccount> loadByIds(Iterable<Long> userIds) {
+        Map<Long, UserAccount> result = new HashMap<>();
+        for (UserAccount account : userQueryRepository.findByIds(userIds)) {
+            result.put(account.userId(), account);
+        }
+        return result;
+    }
+
+    // MySQL 기본 collation은 대소문자를 구분하지 않으므로 요청한 키와 대소문자가 달라도 매칭되도록 한다
+    private Map<String, UserAccount> loadByEmails(Iterable<String> emails) {
+        Map<String, UserAccount> byLowerEmail = new HashMap<>();
+        for (UserAccount account : userQueryRepository.findByEmails(emails)) {
+            byLowerEmail.put(account.email().toLowerCase(Locale.ROOT), account);
+        }
+        Map<String, UserAccount> result = new HashMap<>();
+        for (String email : emails) {
+            UserAccount account = byLowerEmail.get(email.toLowerCase(Locale.ROOT));
+            if (account != null) {
+                result.put(email, account);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.collabo.domain.user;
+
+import com.example.collabo.global.aop.Monitored;
+import com.example.collabo.global.config.UserExportProperties;
+import com.example.collabo.global.metrics.MethodLatencyRecorder.Layer;
+import com.example.collabo.domain.user.dto.UserSummaryResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 읽기 전용 조회 경로 (JdbcTemplate)
+ * - 필요한 컬럼만 읽어서 UserAccount로 매핑 (EntityManager, 1차 캐시, 스냅샷 생성 없음)
+ * - 트랜잭션 없이 실행되므로 읽기/쓰기 분리 모드에서도 프라이머리에서 읽는다
+ *   (회원가입/비밀번호 변경 직후 로그인이 레플리카 지연의 영향을 받지 않음)
+ * 저장/삭제처럼 엔티티 생명주기가 필요한 작업은 UserRepository(JPA)를 사용한다.
+ *
+ * 목록은 OFFSET 대신 user_id 키셋(seek) 방식이라 페이지 위치와 무관하게 PK 인덱스 범위 조회 한 번이다.
+ */
+@Monitored(layer = Layer.REPOSITORY)
+@Repository
+public class UserQueryRepository {
+
+    private static final String SELECT_ACCOUNT = "SELECT user_id, email, password, version FROM `user` ";
+
+    private static final RowMapper<UserAccount> ACCOUNT_MAPPER = (rs, rowNum) -> new UserAccount(
+            rs.getLong("user_id"),
+            rs.getString("email"),
+            rs.getString("password"),
+            rs.getLong("version")
+    );
+
+    private static final RowMapper<UserSummaryResponse> SUMMARY_MAPPER = (rs, rowNum) -> new UserSummaryResponse(
+            rs.getLong("user_id"),
+            rs.getString("email")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public UserQueryRepository(JdbcTemplate jdbcTemplate, UserExportProperties exportProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(exportProperties.getFetchSize()); // 내보내기 전용
+    }
+
+    public Optional<UserAccount> findByEmail(String email) {
+        return first(jdbcTemplate.query(SELECT_ACCOUNT + "WHERE email = ?", ACCOUNT_MAPPER, email));
+    }
+
+    public Optional<UserAccount> findById(Long userId) {
+        return first(jdbcTemplate.query(SELECT_ACCOUNT + "WHERE user_id = ?", ACCOUNT_MAPPER, userId));
+    }
+
+    /**
+     * micro-batching용 IN 조회 (없는 키는 결과에서 빠진다)
+     */
+    public List<UserAccount> findByIds(Iterable<Long> userIds) {
+        return findIn("user_id", userIds);
+    }
+
+    public List<UserAccount> findByEmails(Iterable<String> emails) {
+        return findIn("email", emails);
+    }
+
+    private List<UserAccount> findIn(String column, Iterable<?> keys) {
+        List<Object> values = new ArrayList<>();
+        keys.forEach(values::add);
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(SELECT_ACCOUNT + "WHERE " + column + " IN (:keys)",
+                Map.of("keys", values), ACCOUNT_MAPPER);
+    }
+
+    /**
+     * cursor(user_id) 다음부터 limit건 (cursor가 null이면 처음부터)
+     */
+    public List<UserSummaryResponse> findPageAfter(Long cursor, int limit) {
+        return jdbcTemplate.query("SELECT user_id, email FROM `user` WHERE user_id > ? ORDER BY user_id LIMIT ?",
+                SUMMARY_MAPPER, cursor != null ? cursor : 0L, limit);
+    }
+
+    /**
+     * 전체 유저를 user_id 순서로 한 건씩 consumer에 넘긴다 (결과 전체를 메모리에 올리지 않음)
+     */
+    public void streamAll(Consumer<UserSummaryResponse> consumer) {
+        streamingJdbcTemplate.query("SELECT user_id, email FROM `user` ORDER BY user_id",
+                (RowCallbackHandler) rs -> consumer.accept(SUMMARY_MAPPER.mapRow(rs, 0)));
+    }
+
+    private static Optional<UserAccount> first(List<UserAccount> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+}
@@ -2,10 +2,16 @@ package com.example.collabo.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+/**
+ * 엔티티 생명주기(저장/삭제)용 JPA 리포지토리
+ * 단순 조회는 UserQueryRepository를 사용한다.
+ */
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
+    @Transactional(readOnly = true) // 레플리카로 라우팅 (findById 등 기본 조회 메서드는 SimpleJpaRepository에서 readOnly)
     @Query("SELECT u FROM UserEntity u WHERE u.email = :email")
     Optional<UserEntity> findByEmail(String email);
 }
@@ -0,0 +1,94 @@
+package com.example.collabo.domain.user;
+
+import com.example.collabo.global.aop.Logged;
+import com.example.collabo.global.aop.Monitored;
+import com.example.collabo.global.aop.Sensitive;
+import com.example.collabo.global.exception.ErrorCode;
+import com.example.collabo.global.exception.specific.ResourceNotFoundException;
+import com.example.collabo.domain.user.dto.UserPageResponse;
+import com.example.collabo.domain.user.dto.UserSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Logged
+@Monitored
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final UserQueryRepository userQueryRepository; // 조회는 JdbcTemplate 프로젝션
+    private final UserLoader userLoader;                   // 캐시 미스 조회 (동시 조회 병합)
+    private final UserCache userCache;
+
+    public Optional<UserAccount> findByEmail(String email) {
+        return userCache.getByEmail(email, userLoader::findByEmail);
+    }
+
+    public Optional<UserAccount> findById(Long userId) {
+        return userCache.getById(userId, userLoader::findById);
+    }
+
+    /**
+     * 키셋 페이지 조회: size + 1건을 읽어서 다음 페이지 존재 여부를 판단한다
+     */
+    public UserPageResponse findPage(Long cursor, int size) {
+        List<UserSummaryResponse> rows = userQueryRepository.findPageAfter(cursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<UserSummaryResponse> items = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getUserId() : null;
+        return new UserPageResponse(items, nextCursor, hasNext);
+    }
+
+    public void exportAll(Consumer<UserSummaryResponse> consumer) {
+        userQueryRepository.streamAll(consumer);
+    }
+
+    @Transactional
+    public UserEntity save(UserEntity user) {
+        UserEntity saved = userRepository.save(user);
+        evict(saved.getUserId(), saved.getEmail());
+        return saved;
+    }
+
+    /**
+     * 엔티티를 다시 읽어서 변경 감지로 갱신한다 (version 증가)
+     */
+    @Transactional
+    public UserEntity changePassword(UserAccount user, @Sensitive String encodedPassword) {
+        UserEntity entity = userRepository.findById(user.userId())
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+        entity.changePassword(encodedPassword);
+        evict(entity.getUserId(), entity.getEmail());
+        return entity;
+    }
+
+    @Transactional
+    public void delete(UserEntity user) {
+        userRepository.delete(user);
+        evict(user.getUserId(), user.getEmail());
+    }
+
+    /**
+     * 즉시 무효화 + 커밋 후 한 번 더 무효화
+     * (트랜잭션 진행 중 다른 요청이 이전 값을 다시 캐싱하는 경우 방지)
+     */
+    private void evict(Long userId, String email) {
+        userCache.invalidate(userId, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.invalidate(userId, email);
+                }
+            });
+        }
+    }
+}
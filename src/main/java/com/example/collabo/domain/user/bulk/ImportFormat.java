@@ -0,0 +1,19 @@
+package com.example.collabo.domain.user.bulk;
+
+import java.util.Locale;
+
+public enum ImportFormat {
+    CSV, NDJSON;
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("ndjson")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+
+    public static ImportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".ndjson") || lower.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+}
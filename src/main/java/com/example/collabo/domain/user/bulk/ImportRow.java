@@ -0,0 +1,13 @@
+package com.example.collabo.domain.user.bulk;
+
+/**
+ * 입력 파일의 한 줄 (lineNumber는 오류 보고용)
+ */
+public record ImportRow(long lineNumber, String email, String password) {
+
+    // 비밀번호(평문 또는 해시)가 로그/예외 메시지에 남지 않도록 가린다
+    @Override
+    public String toString() {
+        return "ImportRow[lineNumber=" + lineNumber + ", email=" + email + ", password=***]";
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.collabo.domain.user.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ImportSummaryResponse {
+
+    private long total;                   // 읽은 행 수 (빈 줄/헤더 제외)
+    private long imported;
+    private long duplicates;              // 이미 존재하거나 파일 안에서 중복된 이메일
+    private long invalid;                 // 형식 오류 / 이메일 또는 비밀번호 누락
+    private long elapsedMillis;
+    private List<String> duplicateEmails; // 최대 collabo.import.max-reported-duplicates개
+}
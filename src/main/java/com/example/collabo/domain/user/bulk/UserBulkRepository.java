@@ -0,0 +1,68 @@
+package com.example.collabo.domain.user.bulk;
+
+import com.example.collabo.global.aop.Sensitive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일괄 등록용 JDBC 접근
+ * IDENTITY 키 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate batchUpdate를 직접 사용한다.
+ * MySQL은 JDBC URL에 rewriteBatchedStatements=true가 있어야 배치가 multi-row INSERT 한 번으로 전송된다.
+ *
+ * 이메일 중복(DuplicateKeyException)은 사전 확인 뒤 끼어든 등록으로 예상 가능한 결과라 여기서 false로 바꿔 돌려준다.
+ * 예외로 내보내면 ExceptionLoggingAspect가 이메일과 해시를 ERROR로 남긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkRepository {
+
+    private static final String INSERT = "INSERT INTO `user` (email, password, version) VALUES (?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * emails 중 이미 존재하는 이메일 (청크 단위 IN 조회 한 번)
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT email FROM `user` WHERE email IN (:emails)", Map.of("emails", emails), String.class));
+    }
+
+    /**
+     * @param rows [email, encodedPassword]
+     * @return 이메일 중복으로 실패하면 false (일부 행이 이미 들어갔을 수 있으므로 호출자가 트랜잭션을 롤백해야 한다)
+     */
+    public boolean batchInsert(@Sensitive List<Object[]> rows) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT, rows);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return 이메일이 이미 있으면 false
+     */
+    public boolean insertIfAbsent(String email, @Sensitive String encodedPassword) {
+        try {
+            jdbcTemplate.update(INSERT, email, encodedPassword);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
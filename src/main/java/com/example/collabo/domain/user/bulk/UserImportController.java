@@ -0,0 +1,37 @@
+package com.example.collabo.domain.user.bulk;
+
+import com.example.collabo.global.common.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 유저 일괄 등록 API (collabo.import.api-enabled=true 일 때만 등록, ADMIN 역할만 호출 가능 - SecurityConfig)
+ * 요청 본문을 그대로 스트리밍해서 읽으므로 multipart 임시 파일을 만들지 않는다.
+ */
+@Tag(name = "User", description = "유저 조회 API")
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "collabo.import", name = "api-enabled", havingValue = "true")
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @Operation(summary = "유저 일괄 등록", description = "text/csv(email,password) 또는 application/x-ndjson 본문을 스트리밍으로 등록합니다. (ADMIN)")
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<CommonResponse<ImportSummaryResponse>> importUsers(HttpServletRequest request) throws IOException {
+        ImportSummaryResponse summary = userImportService.importUsers(
+                request.getInputStream(), ImportFormat.fromContentType(request.getContentType()));
+        return ResponseEntity.ok(new CommonResponse<>("유저 일괄 등록 완료", HttpStatus.OK.value(), summary));
+    }
+}
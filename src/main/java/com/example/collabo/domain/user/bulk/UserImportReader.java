@@ -0,0 +1,96 @@
+package com.example.collabo.domain.user.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 입력을 한 줄씩 읽어서 ImportRow로 변환한다 (파일 전체를 메모리에 올리지 않음)
+ * - CSV: 첫 줄은 헤더(email,password), 첫 번째 쉼표 뒤는 모두 비밀번호로 취급
+ * - NDJSON: 한 줄에 {"email": "...", "password": "..."}
+ * 형식이 잘못된 줄은 email/password가 null인 행으로 넘겨서 invalid로 집계한다.
+ */
+public class UserImportReader implements AutoCloseable {
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    public UserImportReader(InputStream inputStream, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return 다음 행, 입력이 끝나면 null
+     */
+    public ImportRow next() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (format == ImportFormat.CSV && lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                return format == ImportFormat.CSV ? parseCsv(line) : parseJson(line);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportRow parseCsv(String line) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            return new ImportRow(lineNumber, null, null);
+        }
+        return new ImportRow(lineNumber, unquote(line.substring(0, comma)), unquote(line.substring(comma + 1)));
+    }
+
+    private ImportRow parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return new ImportRow(lineNumber, text(node, "email"), text(node, "password"));
+        } catch (IOException e) {
+            return new ImportRow(lineNumber, null, null);
+        }
+    }
+
+    /**
+     * 첫 필드가 정확히 email인 경우만 헤더로 본다 ("emailfoo@x.com,..." 같은 데이터 행을 버리지 않도록)
+     */
+    private static boolean isHeader(String line) {
+        String content = line.startsWith("\uFEFF") ? line.substring(1) : line; // UTF-8 BOM
+        int comma = content.indexOf(',');
+        String first = unquote(comma < 0 ? content : content.substring(0, comma));
+        return first.toLowerCase(Locale.ROOT).equals("email");
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).replace("\"\"", "\"");
+        }
+        return trimmed;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && value.isTextual() ? value.asText() : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
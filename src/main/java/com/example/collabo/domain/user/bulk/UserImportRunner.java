@@ -0,0 +1,49 @@
+package com.example.collabo.domain.user.bulk;
+
+import com.example.collabo.global.config.UserImportProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 유저 일괄 등록 CLI 작업
+ * 실행: java -jar app.jar --spring.main.web-application-type=none --collabo.import.file=users.csv
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "collabo.import", name = "file")
+public class UserImportRunner implements ApplicationRunner {
+
+    private final UserImportService userImportService;
+    private final UserImportProperties properties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path file = Path.of(properties.getFile());
+        log.info("[유저 일괄 등록] 파일: {}", file.toAbsolutePath());
+
+        ImportSummaryResponse summary;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            summary = userImportService.importUsers(inputStream, ImportFormat.fromFileName(file.getFileName().toString()));
+        }
+        if (!summary.getDuplicateEmails().isEmpty()) {
+            log.info("[유저 일괄 등록] 중복 이메일 (최대 {}건): {}",
+                    properties.getMaxReportedDuplicates(), summary.getDuplicateEmails());
+        }
+
+        if (properties.isExitAfterRun()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
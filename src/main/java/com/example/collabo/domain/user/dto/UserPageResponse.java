@@ -0,0 +1,19 @@
+package com.example.collabo.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 응답
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 조회한다 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class UserPageResponse {
+
+    private List<UserSummaryResponse> items;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,12 @@
+package com.example.collabo.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSummaryResponse {
+
+    private Long userId;
+    private String email;
+}
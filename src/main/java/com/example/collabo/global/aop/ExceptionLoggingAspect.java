@@ -1,36 +1,58 @@
 package com.example.collabo.global.aop;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-
 @Slf4j
 @Aspect
 @Component
+@ConditionalOnProperty(prefix = "collabo.instrumentation", name = "mode", havingValue = "pointcut", matchIfMissing = true)
+@RequiredArgsConstructor
 public class ExceptionLoggingAspect {
 
+    private final LogSampler logSampler;
+
     @AfterThrowing(
         pointcut = "within(com.example.collabo.domain..*)",
         throwing = "exception"
     )
     public void logException(JoinPoint joinPoint, Exception exception) {
+        // ERROR 비활성화 시 시그니처/파라미터 배열 접근 없이 종료
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+
         String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
         String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
+        String exceptionType = exception.getClass().getSimpleName();
+
+        // 같은 위치에서 같은 타입의 예외가 폭주하면 윈도우당 일정 건수만 기록
+        int suppressed = logSampler.acquireException(className + "." + methodName + ":" + exceptionType);
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed > 0) {
+            log.warn("[예외 로그 생략] {}.{} - 타입: {}, 직전 윈도우에서 {}건 생략됨",
+                className, methodName, exceptionType, suppressed);
+        }
 
         log.error("[예외 발생] {}.{} - 타입: {}, 메시지: {}",
             className,
             methodName,
-            exception.getClass().getSimpleName(),
+            exceptionType,
             exception.getMessage()
         );
 
+        Object[] args = joinPoint.getArgs();
         if (args != null && args.length > 0) {
-            log.error("[예외 파라미터] {}", Arrays.toString(args));
+            // 파라미터는 실제 출력 시점에 길이 제한을 적용해서 문자열로 변환 (@Sensitive 파라미터는 가림)
+            log.error("[예외 파라미터] {}", logSampler.lazyArgs(((MethodSignature) joinPoint.getSignature()).getMethod(), args));
         }
 
         // 스택 트레이스는 DEBUG 레벨에서만 출력
@@ -39,4 +61,3 @@ public class ExceptionLoggingAspect {
         }
     }
 }
-
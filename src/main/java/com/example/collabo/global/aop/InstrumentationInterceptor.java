@@ -0,0 +1,138 @@
+package com.example.collabo.global.aop;
+
+import com.example.collabo.global.metrics.MethodLatencyRecorder;
+import com.example.collabo.global.metrics.MethodMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Monitored / @Logged 통합 어드바이스
+ *
+ * 세 개의 @Aspect(LoggingAspect, PerformanceAspect, ExceptionLoggingAspect)를 쌓는 대신
+ * 어노테이션이 붙은 빈에만 프록시를 만들고 어드바이스 하나에서 측정/로그를 모두 처리한다.
+ * - AspectJ JoinPoint/Signature 객체를 만들지 않는다 (프록시가 만든 MethodInvocation을 그대로 사용)
+ * - 메서드별 메타데이터(이름, 지표, 로그 여부, @Sensitive 파라미터)는 최초 호출 시 한 번만 계산해서 캐싱한다
+ * - 예외 로그의 파라미터 중 @Sensitive가 붙은 값은 `***`로 가린다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InstrumentationInterceptor implements MethodInterceptor {
+
+    private final MethodLatencyRecorder latencyRecorder;
+    private final LogSampler logSampler;
+
+    private final ConcurrentHashMap<Method, InstrumentedMethod> methods = new ConcurrentHashMap<>();
+
+    /**
+     * @param name                "UserService.findById"
+     * @param metrics             @Monitored가 아니면 null
+     * @param logged              @Logged 여부
+     * @param sensitiveParameters 파라미터 위치별 @Sensitive 여부 (LogSampler.sensitiveParameters)
+     */
+    private record InstrumentedMethod(String name, MethodMetrics metrics, boolean logged, boolean[] sensitiveParameters) {
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        InstrumentedMethod method = resolve(invocation);
+
+        // head 샘플링: 샘플링된 호출만 시작 로그
+        boolean sampled = method.logged() && log.isInfoEnabled() && logSampler.sampleSuccess();
+        if (sampled) {
+            log.info("===== {} 시작 =====", method.name());
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            long elapsed = System.nanoTime() - startTime;
+
+            MethodMetrics metrics = method.metrics();
+            if (metrics != null) {
+                metrics.record(elapsed);
+                if (metrics.isSlow(elapsed)) {
+                    log.warn("[느린 호출 감지] {} - 실행시간: {}ms (임계값: {}ms)",
+                        method.name(), TimeUnit.NANOSECONDS.toMillis(elapsed), metrics.getSlowThresholdMillis());
+                }
+            }
+            // tail 샘플링: 샘플링되지 않았더라도 느린 호출은 기록
+            if (method.logged() && (sampled || logSampler.isSlow(elapsed)) && log.isInfoEnabled()) {
+                log.info("===== {} 완료 ({}ms) =====", method.name(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+            return result;
+        } catch (Throwable e) {
+            long elapsed = System.nanoTime() - startTime;
+            if (method.metrics() != null) {
+                method.metrics().recordFailure(elapsed);
+            }
+            if (method.logged()) {
+                logException(method, invocation.getArguments(), e);
+            }
+            throw e;
+        }
+    }
+
+    private InstrumentedMethod resolve(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        InstrumentedMethod resolved = methods.get(method);
+        if (resolved != null) {
+            return resolved;
+        }
+        return methods.computeIfAbsent(method, key -> create(key, invocation.getThis()));
+    }
+
+    private InstrumentedMethod create(Method method, Object target) {
+        if (method.getDeclaringClass() == Object.class) {
+            return new InstrumentedMethod(method.getName(), null, false, null); // toString 등은 계측하지 않음
+        }
+        Class<?> targetClass = target != null ? ClassUtils.getUserClass(target) : method.getDeclaringClass();
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+
+        Monitored monitored = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Monitored.class);
+        if (monitored == null) {
+            monitored = AnnotatedElementUtils.findMergedAnnotation(targetClass, Monitored.class);
+        }
+        boolean logged = AnnotatedElementUtils.hasAnnotation(specificMethod, Logged.class)
+                || AnnotatedElementUtils.hasAnnotation(targetClass, Logged.class);
+
+        String className = targetClass.getSimpleName();
+        MethodMetrics metrics = monitored != null
+                ? latencyRecorder.create(className, method.getName(), monitored.layer())
+                : null;
+        return new InstrumentedMethod(className + "." + method.getName(), metrics, logged,
+                logged ? logSampler.sensitiveParameters(specificMethod) : null);
+    }
+
+    private void logException(InstrumentedMethod method, Object[] args, Throwable exception) {
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+        String exceptionType = exception.getClass().getSimpleName();
+
+        // 같은 위치에서 같은 타입의 예외가 폭주하면 윈도우당 일정 건수만 기록
+        int suppressed = logSampler.acquireException(method.name() + ":" + exceptionType);
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed > 0) {
+            log.warn("[예외 로그 생략] {} - 타입: {}, 직전 윈도우에서 {}건 생략됨", method.name(), exceptionType, suppressed);
+        }
+
+        log.error("[예외 발생] {} - 타입: {}, 메시지: {}", method.name(), exceptionType, exception.getMessage());
+        if (args != null && args.length > 0) {
+            log.error("[예외 파라미터] {}", logSampler.lazyArgs(args, method.sensitiveParameters()));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("[예외 상세]", exception);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.collabo.global.aop;
+
+import com.example.collabo.global.config.LoggingProperties;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그 샘플링 / 예외 로그 속도 제한
+ * - head 샘플링: 정상 요청은 successRate 비율만 기록
+ * - tail 샘플링: 느리거나 실패한 요청은 항상 기록
+ * - 같은 위치에서 반복되는 같은 타입의 예외는 윈도우당 exceptionsPerWindow 건까지만 기록
+ * - @Sensitive 파라미터는 예외 로그에 값 대신 `***`로 출력
+ */
+@Component
+public class LogSampler {
+
+    private final double successRate;
+    private final long slowThresholdNanos;
+    private final int exceptionsPerWindow;
+    private final long exceptionWindowNanos;
+    private final int argMaxLength;
+    private final int argsMaxLength;
+
+    private static final boolean[] NO_SENSITIVE_PARAMETERS = new boolean[0];
+
+    private final ConcurrentHashMap<String, Window> exceptionWindows = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, boolean[]> sensitiveByMethod = new ConcurrentHashMap<>();
+
+    public LogSampler(LoggingProperties loggingProperties) {
+        this.successRate = loggingProperties.getSuccessRate();
+        this.slowThresholdNanos = loggingProperties.getSlowThreshold().toNanos();
+        this.exceptionsPerWindow = loggingProperties.getExceptionsPerWindow();
+        this.exceptionWindowNanos = loggingProperties.getExceptionWindow().toNanos();
+        this.argMaxLength = loggingProperties.getArgMaxLength();
+        this.argsMaxLength = loggingProperties.getArgsMaxLength();
+    }
+
+    public boolean sampleSuccess() {
+        return successRate >= 1.0 || (successRate > 0.0 && ThreadLocalRandom.current().nextDouble() < successRate);
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowThresholdNanos;
+    }
+
+    /**
+     * @return 기록 가능하면 직전 윈도우에서 생략된 건수(0 이상), 이번 윈도우 한도를 넘었으면 -1
+     */
+    public int acquireException(String key) {
+        long now = System.nanoTime();
+        Window window = exceptionWindows.computeIfAbsent(key, k -> new Window(now));
+
+        int suppressedBefore = 0;
+        if (now - window.startNanos >= exceptionWindowNanos) {
+            synchronized (window) {
+                if (now - window.startNanos >= exceptionWindowNanos) {
+                    window.startNanos = now;
+                    window.count.set(0);
+                    suppressedBefore = window.suppressed.getAndSet(0);
+                }
+            }
+        }
+
+        if (window.count.incrementAndGet() <= exceptionsPerWindow) {
+            return suppressedBefore;
+        }
+        window.suppressed.incrementAndGet();
+        return -1;
+    }
+
+    /**
+     * 로그가 실제로 출력될 때만 문자열로 변환되는 파라미터 표현 (method의 @Sensitive 파라미터는 가린다)
+     */
+    public Object lazyArgs(Method method, Object[] args) {
+        return lazyArgs(args, sensitiveParameters(method));
+    }
+
+    /**
+     * @param sensitive sensitiveParameters(Method)로 미리 구한 값
+     */
+    public Object lazyArgs(Object[] args, boolean[] sensitive) {
+        return new LazyArgs(args, sensitive, argMaxLength, argsMaxLength);
+    }
+
+    /**
+     * @return 파라미터 위치별 @Sensitive 여부 (하나도 없으면 빈 배열), 메서드별로 한 번만 계산
+     */
+    public boolean[] sensitiveParameters(Method method) {
+        boolean[] sensitive = sensitiveByMethod.get(method);
+        if (sensitive != null) {
+            return sensitive;
+        }
+        return sensitiveByMethod.computeIfAbsent(method, LogSampler::findSensitiveParameters);
+    }
+
+    private static boolean[] findSensitiveParameters(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        boolean[] sensitive = new boolean[annotations.length];
+        boolean any = false;
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof Sensitive) {
+                    sensitive[i] = true;
+                    any = true;
+                }
+            }
+        }
+        return any ? sensitive : NO_SENSITIVE_PARAMETERS;
+    }
+
+    private static final class Window {
+        private volatile long startNanos;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger suppressed = new AtomicInteger();
+
+        private Window(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+
+    /**
+     * 출력 길이 한도 안에서만 문자열을 만든다.
+     * - 문자열은 한도까지만 붙이고, 배열/컬렉션/맵은 원소를 하나씩 붙이다가 한도에 닿으면 멈춘다 (전체 toString을 만들지 않음)
+     * - 그 밖의 객체는 toString 결과를 잘라서 붙인다 (큰 객체는 toString을 짧게 유지하거나 @Sensitive로 가릴 것)
+     */
+    private record LazyArgs(Object[] args, boolean[] sensitive, int argMaxLength, int argsMaxLength) {
+
+        private static final int MAX_DEPTH = 3;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(Math.min(argsMaxLength, 128) + 16);
+            sb.append('[');
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                if (sb.length() >= argsMaxLength) {
+                    sb.append("...(").append(args.length - i).append(" more)");
+                    break;
+                }
+                if (i < sensitive.length && sensitive[i]) {
+                    sb.append("***");
+                } else {
+                    appendValue(sb, args[i], Math.min(sb.length() + argMaxLength, argsMaxLength), 0);
+                }
+            }
+            return sb.append(']').toString();
+        }
+
+        /**
+         * @param limit 값을 쓸 수 있는 sb 길이 한도 (생략 표시는 한도 뒤에 붙는다)
+         * @return 잘리지 않고 다 붙였으면 true
+         */
+        private static boolean appendValue(StringBuilder sb, Object value, int limit, int depth) {
+            if (value instanceof byte[] bytes) {
+                return appendText(sb, "byte[" + bytes.length + "]", limit);
+            }
+            if (value != null && value.getClass().isArray()) {
+                return appendElements(sb, value.getClass().getComponentType().getSimpleName() + "[]",
+                        arrayElements(value), Array.getLength(value), limit, depth);
+            }
+            if (value instanceof Collection<?> collection) {
+                return appendElements(sb, value.getClass().getSimpleName(),
+                        collection.iterator(), collection.size(), limit, depth);
+            }
+            if (value instanceof Map<?, ?> map) {
+                return appendElements(sb, value.getClass().getSimpleName(),
+                        map.entrySet().iterator(), map.size(), limit, depth);
+            }
+            if (value instanceof Map.Entry<?, ?> entry) {
+                if (!appendValue(sb, entry.getKey(), limit, depth)) {
+                    return false;
+                }
+                sb.append('=');
+                return appendValue(sb, entry.getValue(), limit, depth);
+            }
+            return appendText(sb, value instanceof CharSequence text ? text : String.valueOf(value), limit);
+        }
+
+        private static boolean appendElements(StringBuilder sb, String typeName, Iterator<?> elements, int size,
+                                              int limit, int depth) {
+            if (depth >= MAX_DEPTH) {
+                return appendText(sb, typeName + "(size=" + size + ")", limit);
+            }
+            sb.append('[');
+            for (int index = 0; elements.hasNext(); index++) {
+                if (index > 0) {
+                    sb.append(", ");
+                }
+                if (sb.length() >= limit) {
+                    sb.append("...(size=").append(size).append(")]");
+                    return false;
+                }
+                if (!appendValue(sb, elements.next(), limit, depth + 1)) {
+                    sb.append(", ...(size=").append(size).append(")]");
+                    return false;
+                }
+            }
+            sb.append(']');
+            return true;
+        }
+
+        private static boolean appendText(StringBuilder sb, CharSequence text, int limit) {
+            int room = limit - sb.length();
+            if (text.length() <= room) {
+                sb.append(text);
+                return true;
+            }
+            sb.append(text, 0, Math.max(room, 0)).append("...(").append(text.length()).append(" chars)");
+            return false;
+        }
+
+        private static Iterator<Object> arrayElements(Object array) {
+            int length = Array.getLength(array);
+            return new Iterator<>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < length;
+                }
+
+                @Override
+                public Object next() {
+                    return Array.get(array, index++);
+                }
+            };
+        }
+    }
+}
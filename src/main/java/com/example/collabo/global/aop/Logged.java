@@ -0,0 +1,17 @@
+package com.example.collabo.global.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 호출 로그 + 예외 로그 대상 (collabo.instrumentation.mode=annotation 일 때만 동작)
+ * 시작/완료 로그는 LoggingAspect와 같은 head/tail 샘플링, 예외 로그는 ExceptionLoggingAspect와 같은 윈도우 제한을 따른다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Logged {
+}
@@ -1,79 +1,115 @@
 package com.example.collabo.global.aop;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Aspect
 @Component
+@ConditionalOnProperty(prefix = "collabo.instrumentation", name = "mode", havingValue = "pointcut", matchIfMissing = true)
+@RequiredArgsConstructor
 public class LoggingAspect {
 
+    private final LogSampler logSampler;
+
+    // "UserController.getUser" 형태의 이름을 메서드별로 한 번만 생성
+    private final ConcurrentHashMap<Method, String> methodNames = new ConcurrentHashMap<>();
+
     @Pointcut("within(com.example.collabo.domain..*Controller)")
     public void controllerMethods() {}
 
-    @Pointcut("within(com.example.collabo.domain..*Service)")
-    public void serviceMethods() {}
-
     @Around("controllerMethods()")
     public Object logController(ProceedingJoinPoint joinPoint) throws Throwable {
-        HttpServletRequest request = ((ServletRequestAttributes)
-            RequestContextHolder.currentRequestAttributes()).getRequest();
-
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
+        // INFO 비활성화 시: 시그니처 조회, RequestContextHolder 접근 없이 바로 진행
+        if (!log.isInfoEnabled()) {
+            return proceedLoggingFailureOnly(joinPoint);
+        }
 
-        log.info("===== [{}] {} - {}.{} 시작 =====",
-            method, uri, className, methodName);
+        // head 샘플링: 샘플링된 요청만 시작 로그를 남긴다
+        boolean sampled = logSampler.sampleSuccess();
+        HttpServletRequest request = null;
+        if (sampled) {
+            request = currentRequest();
+            log.info("===== [{}] {} - {} 시작 =====",
+                requestMethod(request), requestUri(request), methodName(joinPoint));
+        }
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-
-            log.info("===== [{}] {} - 완료 ({}ms) =====",
-                method, uri, executionTime);
+            long elapsed = System.nanoTime() - startTime;
+
+            // tail 샘플링: 샘플링되지 않았더라도 느린 요청은 기록
+            boolean slow = logSampler.isSlow(elapsed);
+            if (sampled || slow) {
+                if (request == null) {
+                    request = currentRequest();
+                }
+                log.info("===== [{}] {} - 완료 ({}ms){} =====",
+                    requestMethod(request), requestUri(request),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), slow ? " [SLOW]" : "");
+            }
 
             return result;
         } catch (Exception e) {
+            if (request == null) {
+                request = currentRequest();
+            }
             log.error("===== [{}] {} - 실패: {} =====",
-                method, uri, e.getMessage());
+                requestMethod(request), requestUri(request), e.getMessage());
             throw e;
         }
     }
 
-    @Around("serviceMethods()")
-    public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-
-        log.debug("[Service] {}.{} 호출", className, methodName);
+    private Object proceedLoggingFailureOnly(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return joinPoint.proceed();
+        } catch (Exception e) {
+            if (log.isErrorEnabled()) {
+                HttpServletRequest request = currentRequest();
+                log.error("===== [{}] {} - 실패: {} =====",
+                    requestMethod(request), requestUri(request), e.getMessage());
+            }
+            throw e;
+        }
+    }
 
-        long startTime = System.currentTimeMillis();
+    private String methodName(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return methodNames.computeIfAbsent(signature.getMethod(),
+            method -> signature.getDeclaringType().getSimpleName() + "." + method.getName());
+    }
 
-        try {
-            Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
+    private String requestMethod(HttpServletRequest request) {
+        return request != null ? request.getMethod() : "-";
+    }
 
-            log.debug("[Service] {}.{} 완료 ({}ms)",
-                className, methodName, executionTime);
+    private String requestUri(HttpServletRequest request) {
+        return request != null ? request.getRequestURI() : "-";
+    }
 
-            return result;
-        } catch (Exception e) {
-            log.error("[Service] {}.{} 실패: {}",
-                className, methodName, e.getMessage());
-            throw e;
+    private HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return servletRequestAttributes.getRequest();
         }
+        return null;
     }
 }
-
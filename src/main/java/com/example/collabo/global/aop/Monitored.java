@@ -0,0 +1,22 @@
+package com.example.collabo.global.aop;
+
+import com.example.collabo.global.metrics.MethodLatencyRecorder.Layer;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 실행 시간 측정 대상 (collabo.instrumentation.mode=annotation 일 때만 동작)
+ * 클래스에 붙이면 모든 public 메서드, 메서드에 붙이면 해당 메서드만 측정한다.
+ * 지표는 PerformanceAspect와 같은 collabo.method.latency / collabo.method.failures
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Monitored {
+
+    Layer layer() default Layer.SERVICE;
+}
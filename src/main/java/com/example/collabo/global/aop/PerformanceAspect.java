@@ -1,52 +1,76 @@
 package com.example.collabo.global.aop;
 
+import com.example.collabo.global.metrics.MethodLatencyRecorder;
+import com.example.collabo.global.metrics.MethodLatencyRecorder.Layer;
+import com.example.collabo.global.metrics.MethodMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스/리포지토리 실행 시간 측정 (서비스 호출 DEBUG 로그 포함)
+ * 시간 측정은 이 Aspect 한 곳에서만 수행하고, 결과는 MethodLatencyRecorder 히스토그램에 기록한다.
+ */
 @Slf4j
 @Aspect
 @Component
+@ConditionalOnProperty(prefix = "collabo.instrumentation", name = "mode", havingValue = "pointcut", matchIfMissing = true)
+@RequiredArgsConstructor
 public class PerformanceAspect {
 
-    private static final long SLOW_THRESHOLD_MS = 3000; // 3초
+    private final MethodLatencyRecorder latencyRecorder;
 
     @Around("execution(* com.example.collabo.domain..*Service.*(..))")
     public Object monitorPerformance(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
+        MethodMetrics metrics = latencyRecorder.metricsFor(joinPoint, Layer.SERVICE);
+
+        if (log.isDebugEnabled()) {
+            log.debug("[Service] {}.{} 호출", metrics.getClassName(), metrics.getMethodName());
+        }
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
 
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsed = System.nanoTime() - startTime;
+            metrics.record(elapsed);
 
-            if (executionTime > SLOW_THRESHOLD_MS) {
-                log.warn("[느린 쿼리 감지] {}.{} - 실행시간: {}ms (임계값: {}ms)",
-                    className,
-                    methodName,
-                    executionTime,
-                    SLOW_THRESHOLD_MS
+            if (metrics.isSlow(elapsed)) {
+                log.warn("[느린 서비스 감지] {}.{} - 실행시간: {}ms (임계값: {}ms)",
+                    metrics.getClassName(),
+                    metrics.getMethodName(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    metrics.getSlowThresholdMillis()
                 );
-            } else if (executionTime > 1000) {
+            } else if (metrics.isNotable(elapsed)) {
                 log.info("[성능 모니터링] {}.{} - 실행시간: {}ms",
-                    className,
-                    methodName,
-                    executionTime
+                    metrics.getClassName(),
+                    metrics.getMethodName(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed)
+                );
+            } else if (log.isDebugEnabled()) {
+                log.debug("[Service] {}.{} 완료 ({}ms)",
+                    metrics.getClassName(),
+                    metrics.getMethodName(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed)
                 );
             }
 
             return result;
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsed = System.nanoTime() - startTime;
+            metrics.recordFailure(elapsed);
             log.error("[성능 모니터링 - 예외] {}.{} - 실행시간: {}ms, 예외: {}",
-                className,
-                methodName,
-                executionTime,
+                metrics.getClassName(),
+                metrics.getMethodName(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
                 e.getMessage()
             );
             throw e;
@@ -55,35 +79,35 @@ public class PerformanceAspect {
 
     @Around("execution(* com.example.collabo.domain..*Repository.*(..))")
     public Object monitorRepositoryPerformance(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
+        MethodMetrics metrics = latencyRecorder.metricsFor(joinPoint, Layer.REPOSITORY);
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
 
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsed = System.nanoTime() - startTime;
+            metrics.record(elapsed);
 
-            if (executionTime > 1000) {
+            if (metrics.isSlow(elapsed)) {
                 log.warn("[느린 DB 쿼리] {}.{} - 실행시간: {}ms",
-                    className,
-                    methodName,
-                    executionTime
+                    metrics.getClassName(),
+                    metrics.getMethodName(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed)
                 );
             }
 
             return result;
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsed = System.nanoTime() - startTime;
+            metrics.recordFailure(elapsed);
             log.error("[DB 쿼리 실패] {}.{} - 실행시간: {}ms, 예외: {}",
-                className,
-                methodName,
-                executionTime,
+                metrics.getClassName(),
+                metrics.getMethodName(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
                 e.getMessage()
             );
             throw e;
         }
     }
 }
-
@@ -0,0 +1,17 @@
+package com.example.collabo.global.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 예외 로그의 파라미터 출력에서 값을 가린다 (비밀번호, 토큰, 해시 등)
+ * ExceptionLoggingAspect(pointcut 모드)와 InstrumentationInterceptor(annotation 모드) 모두 `***`로 출력한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Sensitive {
+}
@@ -0,0 +1,127 @@
+package com.example.collabo.global.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간(window) 안에 들어온 서로 다른 키를 모아서 한 번에 조회한다 (예: IN 쿼리)
+ *
+ * 별도 스케줄러 스레드 없이 배치를 연 첫 호출자(leader)가 window만큼 기다린 뒤 실행한다.
+ * 기다리는 동안 maxBatchSize가 차면 마지막으로 추가한 호출자가 바로 실행하고 leader를 깨운다.
+ * 호출 스레드가 window만큼 멈추므로 캐시 적재 함수(Caffeine compute 등) 안에서 호출하면 안 된다.
+ * 같은 배치 안의 같은 키는 하나로 합쳐진다.
+ *
+ * 지표: collabo.coalescing.requests{name} / collabo.coalescing.executions{name} / collabo.coalescing.batch.size{name}
+ */
+public class MicroBatcher<K, V> {
+
+    private final Function<Iterable<K>, Map<K, V>> batchLoader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock(); // 가상 스레드 pinning을 피하려고 synchronized 대신 사용
+
+    private final Counter requests;
+    private final Counter executions;
+    private final DistributionSummary batchSize;
+
+    private Batch<K, V> current;
+
+    /**
+     * @param batchLoader 키 목록 → (키 → 값) 맵. 맵에 없는 키는 null로 완료된다.
+     */
+    public MicroBatcher(String name, long windowNanos, int maxBatchSize,
+                        Function<Iterable<K>, Map<K, V>> batchLoader, MeterRegistry meterRegistry) {
+        this.batchLoader = batchLoader;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+        this.requests = Counter.builder("collabo.coalescing.requests")
+                .description("병합 계층으로 들어온 조회 요청 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.executions = Counter.builder("collabo.coalescing.executions")
+                .description("실제로 실행된 조회 수 (requests / executions = 병합 비율)")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("collabo.coalescing.batch.size")
+                .description("한 번에 조회한 키 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private static final class Batch<K, V> {
+        private final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final Thread leader = Thread.currentThread();
+    }
+
+    public V load(K key) {
+        requests.increment();
+
+        Batch<K, V> batch;
+        CompletableFuture<V> future;
+        boolean leader = false;
+        boolean full = false;
+        lock.lock();
+        try {
+            if (current == null) {
+                current = new Batch<>();
+                leader = true;
+            }
+            batch = current;
+            future = batch.futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (batch.futures.size() >= maxBatchSize) {
+                current = null; // 이후 요청은 새 배치로
+                full = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full) {
+            run(batch);
+            if (batch.leader != Thread.currentThread()) {
+                LockSupport.unpark(batch.leader); // window를 끝까지 기다리지 않도록
+            }
+        } else if (leader) {
+            long deadline = System.nanoTime() + windowNanos;
+            long remaining = windowNanos;
+            while (remaining > 0 && !batch.started.get()) {
+                LockSupport.parkNanos(remaining); // 가짜 깨어남 대비
+                remaining = deadline - System.nanoTime();
+            }
+            lock.lock();
+            try {
+                if (current == batch) {
+                    current = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            run(batch);
+        }
+        return SingleFlight.join(future);
+    }
+
+    private void run(Batch<K, V> batch) {
+        if (!batch.started.compareAndSet(false, true)) {
+            return; // 이미 다른 호출자가 실행
+        }
+        executions.increment();
+        batchSize.record(batch.futures.size());
+        try {
+            Map<K, V> values = batchLoader.apply(batch.futures.keySet());
+            batch.futures.forEach((key, future) -> future.complete(values.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+}
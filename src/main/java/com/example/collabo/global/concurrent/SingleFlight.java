@@ -0,0 +1,72 @@
+package com.example.collabo.global.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합친다
+ * 먼저 들어온 호출만 실제로 실행하고, 실행 중에 들어온 같은 키 호출은 그 결과(또는 예외)를 공유한다.
+ * 결과를 보관하지는 않으므로 실행이 끝난 뒤 들어온 호출은 다시 실행한다 (캐시가 아님).
+ *
+ * 지표: collabo.coalescing.requests{name} / collabo.coalescing.executions{name}
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter requests;
+    private final Counter executions;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.requests = Counter.builder("collabo.coalescing.requests")
+                .description("병합 계층으로 들어온 조회 요청 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.executions = Counter.builder("collabo.coalescing.executions")
+                .description("실제로 실행된 조회 수 (requests / executions = 병합 비율)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        requests.increment();
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 결과를 기다리고, 실패했으면 원래 예외를 그대로 던진다 (CompletionException을 벗겨서)
+     */
+    public static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 동시 조회 병합 설정 (collabo.coalescing.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.coalescing")
+@Getter
+@Setter
+public class CoalescingProperties {
+
+    private boolean enabled = true;                     // 같은 키 동시 조회를 한 번으로 (single-flight)
+    private Duration batchWindow = Duration.ZERO;       // 0 보다 크면 이 시간 동안 모인 키를 IN 조회 한 번으로 (micro-batching)
+    private int maxBatchSize = 100;
+}
@@ -0,0 +1,21 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 내부 호출용 바이너리 토큰 설정 (jwt.compact.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "jwt.compact")
+@Getter
+@Setter
+public class CompactTokenProperties {
+
+    private boolean enabled = false;                // POST /api/auth/compact-token (SERVICE 역할만) + ct1. 토큰 검증
+    private Duration validity = Duration.ofMinutes(5); // 원본 액세스 토큰 만료 시각보다 길어지지는 않는다
+}
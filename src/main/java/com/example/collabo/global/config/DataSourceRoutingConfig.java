@@ -0,0 +1,63 @@
+package com.example.collabo.global.config;
+
+import com.example.collabo.global.datasource.ReplicaLagMonitor;
+import com.example.collabo.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 프라이머리/레플리카 분리 (collabo.datasource.routing.enabled=true 일 때만)
+ * - @Transactional(readOnly = true) → 레플리카 풀
+ * - 그 외 → 프라이머리 풀
+ * 풀 설정은 collabo.datasource.primary.* / collabo.datasource.replica.* (HikariCP 속성) 로 각각 조정한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "collabo.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "collabo.datasource.primary")
+    public HikariDataSource primaryDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "collabo.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${collabo.datasource.routing.max-replica-lag:5s}") Duration maxLag,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor::isAvailable);
+        // 트랜잭션의 readOnly 여부가 정해진 뒤(첫 쿼리 시점)에 실제 커넥션을 고르도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.collabo.global.config;
+
+import com.example.collabo.global.aop.InstrumentationInterceptor;
+import com.example.collabo.global.aop.LogSampler;
+import com.example.collabo.global.aop.Logged;
+import com.example.collabo.global.aop.Monitored;
+import com.example.collabo.global.metrics.MethodLatencyRecorder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 어노테이션 기반 계측 (collabo.instrumentation.mode=annotation)
+ * 이 모드에서는 넓은 포인트컷의 @Aspect 세 개가 등록되지 않고,
+ * @Monitored / @Logged가 붙은 빈에만 InstrumentationInterceptor 하나가 적용된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "collabo.instrumentation", name = "mode", havingValue = "annotation")
+public class InstrumentationConfig {
+
+    @Bean
+    public Advisor instrumentationAdvisor(MethodLatencyRecorder latencyRecorder, LogSampler logSampler) {
+        return new DefaultPointcutAdvisor(instrumentedPointcut(),
+                new InstrumentationInterceptor(latencyRecorder, logSampler));
+    }
+
+    public static Pointcut instrumentedPointcut() {
+        return new ComposablePointcut(new AnnotationMatchingPointcut(Monitored.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Monitored.class))
+                .union(new AnnotationMatchingPointcut(Logged.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Logged.class));
+    }
+}
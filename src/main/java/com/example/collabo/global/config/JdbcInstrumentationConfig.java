@@ -0,0 +1,37 @@
+package com.example.collabo.global.config;
+
+import com.example.collabo.global.datasource.InstrumentedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 커넥션 풀(HikariDataSource) 빈을 InstrumentedDataSource로 감싼다.
+ * 단일 풀이면 dataSource 하나, 읽기/쓰기 분리 모드면 primary/replica 풀 각각이 대상이라
+ * 커넥션 획득 시간이 LazyConnectionDataSourceProxy가 아닌 실제 풀 대기 시간으로 기록된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "collabo.jdbc", name = "instrumentation-enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcInstrumentationConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 의존성은 ObjectProvider로 늦게 꺼낸다
+    @Bean
+    public static BeanPostProcessor jdbcInstrumentationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                     ObjectProvider<JdbcInstrumentationProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource) {
+                    String pool = hikariDataSource.getPoolName() != null ? hikariDataSource.getPoolName() : beanName;
+                    return new InstrumentedDataSource(hikariDataSource, pool, meterRegistry.getObject(),
+                            properties.getObject().getSlowStatementThreshold());
+                }
+                return bean;
+            }
+        };
+    }
+}
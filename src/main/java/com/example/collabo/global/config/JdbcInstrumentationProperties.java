@@ -0,0 +1,22 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * JDBC 계측 설정 (collabo.jdbc.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.jdbc")
+@Getter
+@Setter
+public class JdbcInstrumentationProperties {
+
+    private boolean instrumentationEnabled = true;
+    private Duration slowStatementThreshold = Duration.ofMillis(200); // 초과 시 SQL과 함께 WARN
+    private int statementsPerRequestWarn = 20;                        // 요청 1건당 쿼리 수 초과 시 N+1 의심 WARN
+}
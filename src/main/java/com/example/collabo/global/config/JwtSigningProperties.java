@@ -0,0 +1,30 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 토큰 서명 설정 (jwt.signing.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "jwt.signing")
+@Getter
+@Setter
+public class JwtSigningProperties {
+
+    private String algorithm = "HS512";                  // HS512 (jwt.accessSecret 공유) | ES256 (키 링 + JWKS)
+    private String keyDir = "data/jwt-keys";             // ES256 키 저장 디렉터리 (인스턴스 간 공유 가능)
+    private Duration rotationPeriod = Duration.ofDays(7);
+    private Duration publishAhead = Duration.ofHours(1); // 새 키를 서명에 쓰기 전에 JWKS에 먼저 공개하는 시간 (jwks-max-age보다 길게)
+    private Duration jwksMaxAge = Duration.ofMinutes(15);
+    private boolean rotationEnabled = true;              // 키 디렉터리를 공유하면 한 인스턴스만 true (나머지는 읽기만)
+    private boolean acceptLegacyHs512 = true;            // ES256 전환 후에도 기존 HS512 토큰을 만료 시까지 허용
+
+    public boolean isEs256() {
+        return "ES256".equals(algorithm);
+    }
+}
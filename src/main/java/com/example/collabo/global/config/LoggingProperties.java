@@ -0,0 +1,25 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * AOP 로그 샘플링 설정 (collabo.logging.sampling.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.logging.sampling")
+@Getter
+@Setter
+public class LoggingProperties {
+
+    private double successRate = 1.0;                          // 정상 요청 로그 비율 (0.0 ~ 1.0)
+    private Duration slowThreshold = Duration.ofSeconds(1);    // 이 시간 이상 걸린 요청은 항상 기록
+    private int exceptionsPerWindow = 10;                      // 같은 위치/예외 타입당 허용 로그 수
+    private Duration exceptionWindow = Duration.ofSeconds(1);
+    private int argMaxLength = 200;                            // 파라미터 1개당 최대 길이
+    private int argsMaxLength = 1000;                          // 전체 파라미터 최대 길이
+}
@@ -0,0 +1,24 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정 (collabo.security.password.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.security.password")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    private String algorithm = "bcrypt";               // bcrypt | argon2 | pbkdf2
+    private int bcryptStrength = 10;
+    private int workers = 0;                            // 0 이면 CPU 코어 수
+    private int queueCapacity = 256;                    // 초과 시 429
+    private Duration timeout = Duration.ofSeconds(5);  // 대기 + 해싱 최대 시간
+}
@@ -0,0 +1,33 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PerformanceAspect 임계값 설정 (collabo.performance.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.performance")
+@Getter
+@Setter
+public class PerformanceProperties {
+
+    private Duration serviceSlowThreshold = Duration.ofSeconds(3);   // WARN
+    private Duration serviceInfoThreshold = Duration.ofSeconds(1);   // INFO
+    private Duration repositorySlowThreshold = Duration.ofSeconds(1); // WARN
+
+    /**
+     * 메서드별 느린 호출 임계값 (키: "UserService.findById")
+     */
+    private Map<String, Duration> slowThresholds = new HashMap<>();
+
+    public Duration slowThresholdFor(String signature, Duration defaultThreshold) {
+        return slowThresholds.getOrDefault(signature, defaultThreshold);
+    }
+}
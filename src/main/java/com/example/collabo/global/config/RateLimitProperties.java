@@ -0,0 +1,43 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (collabo.rate-limit.*)
+ * rules는 위에서부터 순서대로 비교하며 처음 일치한 규칙 하나만 적용한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private boolean trustForwardedFor = false;              // 프록시 뒤에서만 true (X-Forwarded-For 첫 번째 IP 사용)
+    private Duration idleEviction = Duration.ofMinutes(1);  // 유휴 키 정리 주기
+    private List<Rule> rules = new ArrayList<>();
+
+    public enum KeyType {
+        IP,       // 클라이언트 IP
+        SUBJECT,  // 검증된 토큰의 subject (처음 보는 토큰, 폐기된 토큰, 토큰 없음은 IP)
+        ROUTE     // 규칙 단위 전체 한도
+    }
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String id;
+        private String path;                         // 예: /api/auth/**
+        private KeyType key = KeyType.IP;
+        private long limit = 100;                    // period 당 허용 요청 수
+        private Duration period = Duration.ofSeconds(1);
+        private long burst = 0;                      // 순간 허용량 (0 이면 limit)
+    }
+}
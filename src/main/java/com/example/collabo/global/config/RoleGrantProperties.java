@@ -0,0 +1,23 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계정별 추가 역할 설정 (collabo.security.roles.*)
+ * 모든 계정은 USER 역할을 가지고, 여기 등록된 이메일은 로그인/토큰 재발급 시 역할이 더해진다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.security.roles")
+@Getter
+@Setter
+public class RoleGrantProperties {
+
+    private List<String> admins = new ArrayList<>();   // ADMIN 역할 (GET /api/users, /api/users/export)
+    private List<String> services = new ArrayList<>(); // SERVICE 역할 (내부 서비스 계정, POST /api/auth/compact-token)
+}
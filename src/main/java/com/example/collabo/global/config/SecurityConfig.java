@@ -1,17 +1,26 @@
 package com.example.collabo.global.config;
 
 import com.example.collabo.global.filter.JwtAuthFilter;
+import com.example.collabo.global.security.Role;
+import com.example.collabo.global.security.RoleAuthorizationManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -24,8 +33,16 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/auth/compact-token").access(RoleAuthorizationManager.anyOf(Role.SERVICE)) // 내부 서비스만 교환
                         .requestMatchers("/api/auth/**").permitAll() // 로그인/회원가입 제외
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll() // Swagger 허용
+                        .requestMatchers("/actuator/health").permitAll() // 헬스 체크 허용
+                        .requestMatchers("/.well-known/jwks.json").permitAll() // 토큰 검증용 공개 키
+                        .requestMatchers("/assets/**").permitAll() // 정적 자원 (StaticAssetHandler)
+                        .requestMatchers("/ws/**").permitAll() // 핸드셰이크에서 JwtHandshakeInterceptor가 토큰 검증
+                        .requestMatchers("/api/users/import").access(RoleAuthorizationManager.anyOf(Role.ADMIN)) // 일괄 등록은 관리자만
+                        .requestMatchers(HttpMethod.GET, "/api/users", "/api/users/export").access(RoleAuthorizationManager.anyOf(Role.ADMIN)) // 전체 이메일 노출
+                        .requestMatchers("/api/**").access(RoleAuthorizationManager.anyOf(Role.USER, Role.ADMIN, Role.SERVICE)) // 비트 연산으로 역할 확인
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
@@ -36,8 +53,19 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 해시 앞에 {bcrypt}/{argon2}/{pbkdf2} 접두사를 붙여 알고리즘을 구분한다.
+     * 접두사가 없는 기존 해시는 BCrypt로 검증하며, 로그인 시 현재 설정으로 재해싱된다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(properties.getBcryptStrength()));
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(properties.getAlgorithm(), encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 }
\ No newline at end of file
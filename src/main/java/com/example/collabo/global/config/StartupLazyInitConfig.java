@@ -0,0 +1,66 @@
+package com.example.collabo.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 운영(prod) 프로파일 기동 시간 단축
+ * Swagger(SpringDoc) / Thymeleaf 관련 빈만 지연 초기화해서 첫 요청 시점에 만들도록 한다.
+ * 대상은 collabo.startup.lazy-prefixes (빈 클래스 또는 @Bean 선언 클래스 이름의 접두사)
+ *
+ * AOT 빌드(-Paot)에서는 빌드 시점에 적용되므로 processAot도 prod 프로파일로 실행해야 한다.
+ */
+@Slf4j
+@Configuration
+public class StartupLazyInitConfig {
+
+    private static final List<String> DEFAULT_PREFIXES = List.of(
+            "org.springdoc.",
+            "org.thymeleaf.",
+            "org.springframework.boot.autoconfigure.thymeleaf.",
+            SwaggerConfig.class.getName()
+    );
+
+    // BeanFactoryPostProcessor는 일반 빈보다 먼저 만들어지므로 static + Environment 직접 바인딩
+    @Bean
+    @Profile("prod")
+    public static BeanFactoryPostProcessor startupLazyInitPostProcessor(Environment environment) {
+        List<String> prefixes = Binder.get(environment)
+                .bind("collabo.startup.lazy-prefixes", Bindable.listOf(String.class))
+                .orElse(DEFAULT_PREFIXES);
+
+        return beanFactory -> {
+            int count = 0;
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (definition.isLazyInit() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                    continue;
+                }
+                String source = sourceOf(definition);
+                if (source != null && prefixes.stream().anyMatch(source::startsWith)) {
+                    definition.setLazyInit(true);
+                    count++;
+                }
+            }
+            log.info("[기동] 지연 초기화 빈 {}개 (접두사: {})", count, prefixes);
+        };
+    }
+
+    // @Bean 메서드로 등록된 빈은 클래스 이름이 없으므로 선언한 설정 클래스로 판단
+    private static String sourceOf(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null) {
+            return annotated.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return definition.getBeanClassName();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.collabo.global.config;
+
+import com.example.collabo.global.web.StaticAssetHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 파일시스템의 정적 자원을 StaticAssetHandler로 서빙한다.
+ * 클래스패스(jar 내부) 자원은 sendfile을 쓸 수 없으므로 기존 리소스 핸들러가 그대로 처리한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "collabo.static-assets", name = "location")
+public class StaticAssetConfig {
+
+    @Bean
+    public StaticAssetHandler staticAssetHandler(StaticAssetProperties properties) {
+        return new StaticAssetHandler(Path.of(properties.getLocation()), properties.getMaxAge());
+    }
+
+    @Bean
+    public SimpleUrlHandlerMapping staticAssetHandlerMapping(StaticAssetProperties properties,
+                                                             StaticAssetHandler staticAssetHandler) {
+        // 기본 리소스 핸들러("/**", 최하위 순서)보다 먼저 매칭되도록 한다
+        return new SimpleUrlHandlerMapping(Map.of(properties.getUrlPattern(), staticAssetHandler), 0);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 정적 자원 서빙 설정 (collabo.static-assets.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.static-assets")
+@Getter
+@Setter
+public class StaticAssetProperties {
+
+    private String location;                          // 파일시스템 디렉터리 (비어 있으면 비활성화)
+    private String urlPattern = "/assets/**";
+    private Duration maxAge = Duration.ofDays(365);   // 파일명에 해시가 들어간 자원 기준 (immutable)
+}
@@ -0,0 +1,23 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 유저 조회 캐시 설정 (collabo.cache.user.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.cache.user")
+@Getter
+@Setter
+public class UserCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000;                      // 키 종류(email/userId)별 최대 엔트리 수
+    private Duration ttl = Duration.ofMinutes(10);          // 존재하는 유저
+    private Duration negativeTtl = Duration.ofSeconds(30);  // 존재하지 않는 이메일
+}
@@ -0,0 +1,18 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 유저 내보내기 설정 (collabo.user.export.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.user.export")
+@Getter
+@Setter
+public class UserExportProperties {
+
+    private int fetchSize = 1000; // 커서로 한 번에 가져올 행 수 (MySQL은 JDBC URL에 useCursorFetch=true가 있어야 나눠 가져온다)
+}
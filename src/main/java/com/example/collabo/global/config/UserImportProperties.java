@@ -0,0 +1,25 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 유저 일괄 등록 설정 (collabo.import.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.import")
+@Getter
+@Setter
+public class UserImportProperties {
+
+    private String file;                      // 지정하면 기동 시 CLI 작업으로 실행 (UserImportRunner)
+    private boolean exitAfterRun = true;      // CLI 작업 후 애플리케이션 종료
+    private boolean apiEnabled = false;       // POST /api/users/import 노출 여부
+    private int batchSize = 1000;             // 청크(= JDBC 배치) 크기
+    private int workers = 0;                  // 해싱 스레드 수, 0 이면 CPU 코어 수
+    private int bcryptStrength = 0;           // 0 이면 collabo.security.password 설정 사용 (낮추면 첫 로그인 시 재해싱)
+    private int maxReportedDuplicates = 100;  // 요약에 포함할 중복 이메일 최대 개수
+    private boolean acceptEncodedPasswords = false; // {bcrypt}/{argon2}/{pbkdf2}로 시작하는 값을 해시로 보고 그대로 저장 (다른 시스템에서 이관할 때만)
+}
@@ -0,0 +1,30 @@
+package com.example.collabo.global.config;
+
+import com.example.collabo.global.websocket.CollabWebSocketHandler;
+import com.example.collabo.global.websocket.JwtHandshakeInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 실시간 협업 채널 등록 (/ws/collab)
+ * STOMP 브로커 없이 raw WebSocket + 프로세스 내 CollabHub로 팬아웃한다.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final CollabWebSocketHandler collabWebSocketHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final WebSocketProperties properties;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(collabWebSocketHandler, "/ws/collab")
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOriginPatterns(properties.getAllowedOrigins().toArray(String[]::new));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.collabo.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 협업 채널 설정 (collabo.websocket.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "collabo.websocket")
+@Getter
+@Setter
+public class WebSocketProperties {
+
+    private List<String> allowedOrigins = new ArrayList<>();   // 비어 있으면 같은 origin만 허용
+    private Duration sendTimeLimit = Duration.ofSeconds(5);    // 소켓 쓰기 한 번이 이보다 오래 걸리면 느린 연결로 보고 종료
+    private int bufferSizeLimit = 512 * 1024;                  // 연결별 송신 큐에 쌓을 수 있는 바이트 (초과 시 종료)
+    private int maxMessageSize = 64 * 1024;                    // 수신 메시지 최대 크기
+    private int maxSubscriptions = 100;                        // 연결당 최대 구독 토픽 수
+    private Duration idleTimeout = Duration.ofMinutes(30);
+    private int writerThreads = 16;                            // 소켓 쓰기 스레드 수 (가상 스레드 모드에서는 무시)
+    private Duration authCheckInterval = Duration.ofSeconds(30); // 토큰 만료/폐기된 연결을 끊는 주기
+}
@@ -0,0 +1,5 @@
+package com.example.collabo.global.datasource;
+
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
@@ -0,0 +1,129 @@
+package com.example.collabo.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 계측 DataSource
+ * - collabo.jdbc.connection.acquire{pool}: 풀에서 커넥션을 얻기까지 걸린 시간 (풀 대기)
+ * - collabo.jdbc.statement{pool, operation}: 쿼리 실행 시간 (select/insert/update/delete/other)
+ * - collabo.jdbc.rows.fetched{pool}: ResultSet에서 읽은 행 수
+ * 요청 단위 합계는 JdbcRequestStats에 누적된다.
+ * Connection/Statement/ResultSet은 직접 작성한 위임 래퍼(Instrumented*)로 감싸므로 호출마다 리플렉션을 거치지 않는다.
+ * (활성/유휴 커넥션 수는 HikariCP가 hikaricp.connections.* 지표로 제공)
+ */
+@Slf4j
+public class InstrumentedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public enum Operation {
+        SELECT, INSERT, UPDATE, DELETE, OTHER
+    }
+
+    private final Timer connectionAcquireTimer;
+    private final Map<Operation, Timer> statementTimers = new EnumMap<>(Operation.class);
+    private final Counter rowsFetched;
+    private final long slowStatementNanos;
+
+    public InstrumentedDataSource(DataSource target, String pool, MeterRegistry meterRegistry, Duration slowStatementThreshold) {
+        super(target);
+        this.slowStatementNanos = slowStatementThreshold.toNanos();
+        this.connectionAcquireTimer = Timer.builder("collabo.jdbc.connection.acquire")
+                .description("커넥션 풀 대기 시간")
+                .tag("pool", pool)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        for (Operation operation : Operation.values()) {
+            statementTimers.put(operation, Timer.builder("collabo.jdbc.statement")
+                    .description("JDBC 쿼리 실행 시간")
+                    .tag("pool", pool)
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .register(meterRegistry));
+        }
+        this.rowsFetched = Counter.builder("collabo.jdbc.rows.fetched")
+                .description("ResultSet에서 읽은 행 수")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        recordAcquire(System.nanoTime() - start);
+        return wrap(connection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        recordAcquire(System.nanoTime() - start);
+        return wrap(connection);
+    }
+
+    // 감싼 뒤에도 컨테이너 종료 시 풀이 닫히도록 위임
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void recordAcquire(long elapsedNanos) {
+        connectionAcquireTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        JdbcRequestStats.recordConnectionWait(elapsedNanos);
+    }
+
+    private Connection wrap(Connection connection) {
+        return new InstrumentedConnection(connection, this);
+    }
+
+    void recordStatement(String sql, long elapsedNanos) {
+        statementTimers.get(operationOf(sql)).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        JdbcRequestStats.recordStatement(elapsedNanos);
+        if (elapsedNanos > slowStatementNanos) {
+            log.warn("[느린 SQL] {}ms - {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql);
+        }
+    }
+
+    void recordRow() {
+        rowsFetched.increment();
+        JdbcRequestStats.recordRow();
+    }
+
+    static Operation operationOf(String sql) {
+        if (sql == null) {
+            return Operation.OTHER;
+        }
+        int i = 0;
+        while (i < sql.length() && (Character.isWhitespace(sql.charAt(i)) || sql.charAt(i) == '(')) {
+            i++;
+        }
+        if (sql.regionMatches(true, i, "select", 0, 6) || sql.regionMatches(true, i, "with", 0, 4)) {
+            return Operation.SELECT;
+        }
+        if (sql.regionMatches(true, i, "insert", 0, 6)) {
+            return Operation.INSERT;
+        }
+        if (sql.regionMatches(true, i, "update", 0, 6)) {
+            return Operation.UPDATE;
+        }
+        if (sql.regionMatches(true, i, "delete", 0, 6)) {
+            return Operation.DELETE;
+        }
+        return Operation.OTHER;
+    }
+}
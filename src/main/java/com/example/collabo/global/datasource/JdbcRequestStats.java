@@ -0,0 +1,66 @@
+package com.example.collabo.global.datasource;
+
+/**
+ * 요청 스레드 단위 JDBC 통계 (쿼리 수, 쿼리 시간 합계, 조회 행 수, 커넥션 대기 시간)
+ * RequestIdFilter가 요청 시작 시 begin(), 종료 시 end()를 호출한다.
+ */
+public final class JdbcRequestStats {
+
+    private static final ThreadLocal<JdbcRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long statementNanos;
+    private long rows;
+    private long connectionWaitNanos;
+
+    private JdbcRequestStats() {
+    }
+
+    public static JdbcRequestStats begin() {
+        JdbcRequestStats stats = new JdbcRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void recordStatement(long elapsedNanos) {
+        JdbcRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.statementNanos += elapsedNanos;
+        }
+    }
+
+    static void recordRow() {
+        JdbcRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+
+    static void recordConnectionWait(long elapsedNanos) {
+        JdbcRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.connectionWaitNanos += elapsedNanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.collabo.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 레플리카 복제 지연 감시
+ * SHOW REPLICA STATUS의 Seconds_Behind_Source가 허용치를 넘거나 복제가 멈췄으면 레플리카를 사용하지 않는다.
+ * (복제 설정이 없는 서버 - 로컬 개발용 단일 DB 등 - 는 정상으로 간주)
+ *
+ * SHOW REPLICA STATUS는 REPLICATION CLIENT 권한이 필요하다 (레플리카 풀 계정에 GRANT REPLICATION CLIENT ON *.* TO ...).
+ * 권한이 없으면(MySQL 오류 1227) 지연을 알 수 없으므로 레플리카를 쓰지 않고, 연결 실패와 구분해서 ERROR로 알린다.
+ * 같은 원인의 실패가 이어지면 처음 한 번만 기록한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int ER_SPECIFIC_ACCESS_DENIED = 1227;
+
+    private enum Failure {
+        NONE, ACCESS_DENIED, UNREACHABLE, OTHER
+    }
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+
+    private volatile boolean available = true;
+    private volatile long lagSeconds = 0;
+    private Failure lastFailure = Failure.NONE; // check()에서만 접근
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toSeconds();
+
+        Gauge.builder("collabo.datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .register(meterRegistry);
+        Gauge.builder("collabo.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${collabo.datasource.routing.lag-check-interval:PT5S}")
+    public synchronized void check() {
+        boolean previous = available;
+        Failure failure = Failure.NONE;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+            if (!resultSet.next()) {
+                lagSeconds = 0;
+                available = true;
+            } else {
+                long lag = resultSet.getLong("Seconds_Behind_Source");
+                boolean stopped = resultSet.wasNull();
+                lagSeconds = stopped ? -1 : lag;
+                available = !stopped && lag <= maxLagSeconds;
+            }
+        } catch (SQLException e) {
+            lagSeconds = -1;
+            available = false;
+            failure = classify(e);
+            if (failure != lastFailure) {
+                logFailure(failure, e);
+            }
+        }
+        lastFailure = failure;
+
+        if (previous != available) {
+            log.warn("[레플리카 감시] 레플리카 {} (지연: {}초, 허용: {}초)",
+                    available ? "복구 → 읽기 분산 재개" : "사용 중지 → 읽기를 프라이머리로 전환",
+                    lagSeconds, maxLagSeconds);
+        }
+    }
+
+    private static Failure classify(SQLException e) {
+        if (e.getErrorCode() == ER_SPECIFIC_ACCESS_DENIED) {
+            return Failure.ACCESS_DENIED;
+        }
+        // 08xxx: 연결 오류, SQLTransientConnectionException: 풀에서 커넥션을 얻지 못함 (HikariCP 타임아웃)
+        String sqlState = e.getSQLState();
+        if (e instanceof SQLTransientConnectionException || (sqlState != null && sqlState.startsWith("08"))) {
+            return Failure.UNREACHABLE;
+        }
+        return Failure.OTHER;
+    }
+
+    private static void logFailure(Failure failure, SQLException e) {
+        switch (failure) {
+            case ACCESS_DENIED -> log.error("[레플리카 감시] 권한 부족 - 레플리카 계정에 REPLICATION CLIENT 권한이 필요합니다: {}",
+                    e.getMessage());
+            case UNREACHABLE -> log.warn("[레플리카 감시] 레플리카 연결 실패: {}", e.getMessage());
+            default -> log.warn("[레플리카 감시] 상태 확인 실패 (오류 코드: {}): {}", e.getErrorCode(), e.getMessage());
+        }
+    }
+
+    // 테스트에서 감시 결과를 직접 지정 (ReplicationRoutingDataSourceTest)
+    void markAvailable(boolean available) {
+        this.available = available;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.collabo.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 나머지는 프라이머리로 보낸다.
+ * 레플리카가 지연/장애 상태면 읽기도 프라이머리로 보낸다.
+ *
+ * 트랜잭션 매니저는 readOnly 플래그를 커넥션 획득 이후에 설정하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final BooleanSupplier replicaAvailable;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaAvailable.getAsBoolean()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
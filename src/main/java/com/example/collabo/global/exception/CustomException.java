@@ -10,10 +10,12 @@ public class CustomException extends RuntimeException {
 
     private final HttpStatus statusCode;
     private final String message;
+    private ErrorCode errorCode; // ErrorCode로 생성된 경우에만 존재 (미리 만든 응답 템플릿 사용)
 
     public CustomException(ErrorCode errorCode) {
         super(errorCode.getMessage());
         this.statusCode = errorCode.getStatus();
         this.message = errorCode.getMessage();
+        this.errorCode = errorCode;
     }
 }
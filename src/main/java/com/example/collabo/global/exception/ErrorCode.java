@@ -13,6 +13,7 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED"),
     NOT_FOUND(HttpStatus.NOT_FOUND, "NOT FOUND"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL SERVER ERROR"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // TOKEN
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 JWT 토큰입니다."),
@@ -21,6 +22,8 @@ public enum ErrorCode {
     FALSE_TOKEN(HttpStatus.BAD_REQUEST, "잘못된 JWT 토큰입니다."),
     HEADER_NOT_FOUND(HttpStatus.BAD_REQUEST, "헤더가 잘못되었거나 누락되었습니다."),
     UNMATCHED_TOKEN(HttpStatus.BAD_REQUEST, "일치하지 않는 토큰입니다."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "폐기된 토큰입니다. 재로그인 해주세요."),
+    TOKEN_DENYLIST_FULL(HttpStatus.SERVICE_UNAVAILABLE, "토큰을 폐기할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // USER
     USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "유저를 찾을 수 없습니다."),
@@ -0,0 +1,125 @@
+package com.example.collabo.global.exception;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * CommonErrorResponse JSON을 Jackson 없이 응답 스트림에 바로 쓴다.
+ *
+ * ErrorCode별 JSON 앞/뒤 부분을 미리 바이트로 만들어 두고, timestamp만 끼워 넣는다.
+ * 출력 형식은 Jackson 직렬화 결과와 같다:
+ * {"message":"...","error":"...","statusCode":400,"timestamp":"2025-11-18T16:30:21.187"}
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final byte[] TIMESTAMP_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<ErrorCode, Template> templates = new EnumMap<>(ErrorCode.class);
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    // 같은 밀리초 안의 에러 응답은 포맷된 timestamp를 재사용
+    private volatile Timestamp lastTimestamp = new Timestamp(-1L, new byte[0]);
+
+    public ErrorResponseWriter() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            templates.put(errorCode, Template.of(errorCode.getStatus(), errorCode.getMessage()));
+        }
+    }
+
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        write(response, templates.get(errorCode));
+    }
+
+    public void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        write(response, Template.of(status, message));
+    }
+
+    public void write(HttpServletResponse response, Template template) throws IOException {
+        byte[] timestamp = currentTimestamp();
+
+        response.setStatus(template.status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(template.prefix.length + timestamp.length + TIMESTAMP_SUFFIX.length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(template.prefix);
+        out.write(timestamp);
+        out.write(TIMESTAMP_SUFFIX);
+        out.flush();
+    }
+
+    private byte[] currentTimestamp() {
+        long now = System.currentTimeMillis();
+        Timestamp cached = lastTimestamp;
+        if (cached.millis == now) {
+            return cached.bytes;
+        }
+        byte[] bytes = DateTimeFormatter.ISO_LOCAL_DATE_TIME
+                .format(LocalDateTime.ofInstant(Instant.ofEpochMilli(now), zoneId))
+                .getBytes(StandardCharsets.US_ASCII);
+        lastTimestamp = new Timestamp(now, bytes);
+        return bytes;
+    }
+
+    private record Timestamp(long millis, byte[] bytes) {
+    }
+
+    /**
+     * timestamp 앞까지의 JSON 바이트
+     */
+    public static final class Template {
+
+        private final int status;
+        private final byte[] prefix;
+
+        private Template(int status, byte[] prefix) {
+            this.status = status;
+            this.prefix = prefix;
+        }
+
+        public static Template of(HttpStatus status, String message) {
+            StringBuilder json = new StringBuilder(96 + message.length());
+            json.append("{\"message\":\"");
+            appendEscaped(json, message);
+            json.append("\",\"error\":\"");
+            appendEscaped(json, status.getReasonPhrase());
+            json.append("\",\"statusCode\":").append(status.value());
+            json.append(",\"timestamp\":\"");
+            return new Template(status.value(), json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static void appendEscaped(StringBuilder json, String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> json.append("\\\"");
+                    case '\\' -> json.append("\\\\");
+                    case '\n' -> json.append("\\n");
+                    case '\r' -> json.append("\\r");
+                    case '\t' -> json.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            json.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            json.append(c);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,91 +1,83 @@
 package com.example.collabo.global.exception;
 
-import com.example.collabo.global.common.CommonErrorResponse;
+import com.example.collabo.global.exception.ErrorResponseWriter.Template;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 
+/**
+ * 에러 응답은 ErrorResponseWriter로 응답 스트림에 바로 쓴다 (CommonErrorResponse와 같은 JSON 형식).
+ * 고정 메시지는 템플릿을 미리 만들어 두고, 동적 메시지만 요청 시 템플릿을 만든다.
+ */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final Template NO_RESOURCE_FOUND =
+            Template.of(HttpStatus.NOT_FOUND, "요청한 리소스를 찾을 수 없습니다");
+    private static final Template UNEXPECTED =
+            Template.of(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다");
+
+    private final ErrorResponseWriter errorResponseWriter;
+
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<CommonErrorResponse> handleCustomException(final CustomException e) {
+    public void handleCustomException(final CustomException e, HttpServletResponse response) throws IOException {
         log.error("CustomException: {}", e.getMessage());
-        return ResponseEntity.status(e.getStatusCode()).body(
-                CommonErrorResponse.builder()
-                        .message(e.getMessage())
-                        .error(e.getStatusCode().getReasonPhrase())
-                        .statusCode(e.getStatusCode().value())
-                        .timestamp(LocalDateTime.now())
-                        .build()
-        );
+        if (e.getErrorCode() != null) {
+            errorResponseWriter.write(response, e.getErrorCode());
+        } else {
+            errorResponseWriter.write(response, e.getStatusCode(), e.getMessage());
+        }
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<CommonErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    public void handleValidationExceptions(MethodArgumentNotValidException ex, HttpServletResponse response) throws IOException {
         log.error("MethodArgumentNotValidException: {}", ex.getMessage());
 
-        // 모든 필드 에러를 수집
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
+        // 모든 필드 에러를 수집 ({field=message, ...})
+        StringBuilder errors = new StringBuilder("입력값 검증에 실패했습니다: {");
+        boolean first = true;
+        for (ObjectError error : ex.getBindingResult().getAllErrors()) {
+            if (!first) {
+                errors.append(", ");
+            }
+            String fieldName = error instanceof FieldError fieldError ? fieldError.getField() : error.getObjectName();
+            errors.append(fieldName).append('=').append(error.getDefaultMessage());
+            first = false;
+        }
+        errors.append('}');
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(CommonErrorResponse.builder()
-                        .message("입력값 검증에 실패했습니다: " + errors)
-                        .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                        .statusCode(HttpStatus.BAD_REQUEST.value())
-                        .timestamp(LocalDateTime.now())
-                        .build());
+        errorResponseWriter.write(response, HttpStatus.BAD_REQUEST, errors.toString());
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-    public ResponseEntity<CommonErrorResponse> handleHttpRequestMethodNotSupported(HttpRequestMethodNotSupportedException ex) {
+    public void handleHttpRequestMethodNotSupported(HttpRequestMethodNotSupportedException ex,
+                                                    HttpServletResponse response) throws IOException {
         log.error("HttpRequestMethodNotSupportedException: {}", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
-                .body(CommonErrorResponse.builder()
-                        .message("지원하지 않는 HTTP 메서드입니다: " + ex.getMethod())
-                        .error(HttpStatus.METHOD_NOT_ALLOWED.getReasonPhrase())
-                        .statusCode(HttpStatus.METHOD_NOT_ALLOWED.value())
-                        .timestamp(LocalDateTime.now())
-                        .build());
+        errorResponseWriter.write(response, HttpStatus.METHOD_NOT_ALLOWED,
+                "지원하지 않는 HTTP 메서드입니다: " + ex.getMethod());
     }
 
     @ExceptionHandler(NoResourceFoundException.class)
-    public ResponseEntity<CommonErrorResponse> handleNoResourceFound(NoResourceFoundException ex) {
+    public void handleNoResourceFound(NoResourceFoundException ex, HttpServletResponse response) throws IOException {
         log.error("NoResourceFoundException: {}", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(CommonErrorResponse.builder()
-                        .message("요청한 리소스를 찾을 수 없습니다")
-                        .error(HttpStatus.NOT_FOUND.getReasonPhrase())
-                        .statusCode(HttpStatus.NOT_FOUND.value())
-                        .timestamp(LocalDateTime.now())
-                        .build());
+        errorResponseWriter.write(response, NO_RESOURCE_FOUND);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<CommonErrorResponse> handleException(Exception ex) {
+    public void handleException(Exception ex, HttpServletResponse response) throws IOException {
         log.error("Unexpected Exception: ", ex);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(CommonErrorResponse.builder()
-                        .message("서버 오류가 발생했습니다")
-                        .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
-                        .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                        .timestamp(LocalDateTime.now())
-                        .build());
+        errorResponseWriter.write(response, UNEXPECTED);
     }
 }
@@ -0,0 +1,43 @@
+package com.example.collabo.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+
+/**
+ * /api/** GET 응답에 ETag를 붙이고 If-None-Match가 일치하면 304로 본문 없이 응답한다.
+ *
+ * - 컨트롤러가 ETag를 직접 지정하면(버전 기반) 그 값을 그대로 쓰고, 없으면 응답 본문의 MD5로 강한 ETag를 만든다
+ * - Cache-Control은 기본 "private, no-cache"(매번 재검증)로 지정해서 Spring Security의 no-store 헤더가 붙지 않게 한다
+ * - 본문을 버퍼링하므로 스트리밍 응답은 ShallowEtagHeaderFilter.disableContentCaching(request)로 제외해야 한다
+ *
+ * Security 필터 체인 뒤에서 실행되므로 인증되지 않은 요청은 여기까지 오지 않는다.
+ */
+@Component
+public class ConditionalGetFilter extends ShallowEtagHeaderFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String DEFAULT_CACHE_CONTROL = "private, no-cache";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method))
+                || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!isAsyncDispatch(request)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, DEFAULT_CACHE_CONTROL); // 컨트롤러가 덮어쓸 수 있음
+        }
+        super.doFilterInternal(request, response, filterChain);
+    }
+}
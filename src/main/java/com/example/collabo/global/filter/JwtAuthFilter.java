@@ -1,27 +1,25 @@
 package com.example.collabo.global.filter;
 
 import com.example.collabo.global.jwt.JwtProvider;
-import io.jsonwebtoken.Claims;
+import com.example.collabo.global.jwt.TokenDenylist;
+import com.example.collabo.global.jwt.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @RequiredArgsConstructor
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -29,17 +27,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String token = resolveToken(request);
-        if (token != null && jwtProvider.validateToken(token)) {
-            Claims claims = jwtProvider.parseClaims(token);
-            String userId = claims.getSubject();
-            List<String> roles = claims.get("roles", List.class);
-
-            List<SimpleGrantedAuthority> authorities = roles.stream()
-                    .map(SimpleGrantedAuthority::new)
-                    .toList();
-
-            Authentication auth = new UsernamePasswordAuthenticationToken(userId, null, authorities);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        if (token != null) {
+            // 파싱은 한 번만 수행하고, 반복되는 토큰은 캐시에서 바로 꺼낸다
+            VerifiedToken verified = jwtProvider.verify(token);
+            if (verified != null && !tokenDenylist.isRevoked(verified.jtiHash())) {
+                // 불변 TokenAuthentication을 그대로 사용 (캐시된 토큰이면 새로 만드는 객체 없음)
+                SecurityContextHolder.getContext().setAuthentication(verified.authentication());
+            }
         }
 
         filterChain.doFilter(request, response);
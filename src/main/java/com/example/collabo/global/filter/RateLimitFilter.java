@@ -0,0 +1,158 @@
+package com.example.collabo.global.filter;
+
+import com.example.collabo.global.config.RateLimitProperties;
+import com.example.collabo.global.config.RateLimitProperties.KeyType;
+import com.example.collabo.global.config.RateLimitProperties.Rule;
+import com.example.collabo.global.exception.ErrorCode;
+import com.example.collabo.global.exception.ErrorResponseWriter;
+import com.example.collabo.global.jwt.JwtProvider;
+import com.example.collabo.global.jwt.TokenDenylist;
+import com.example.collabo.global.jwt.VerifiedToken;
+import com.example.collabo.global.ratelimit.RateLimiterBackend;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트별 요청 속도 제한 (GCRA)
+ *
+ * Spring Security 필터 체인보다 앞에서 실행되는 서블릿 필터라서
+ * 거절된 요청은 보안 필터/디스패처를 거치지 않고 미리 만든 429 응답만 쓰고 끝난다.
+ * 한도 판단 전에는 토큰 서명을 검증하지 않는다. subject 키는 이미 검증된 토큰(캐시)에만 쓰고,
+ * 처음 보는 토큰은 IP 한도로 받아들인 뒤 JwtAuthFilter가 검증한다 (위조 토큰 폭주가 서명 검증 비용으로 이어지지 않도록).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiterBackend rateLimiterBackend;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final JwtProvider jwtProvider;
+    private final TokenDenylist tokenDenylist;
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final List<CompiledRule> rules;
+    private final Counter rejected;
+
+    public RateLimitFilter(RateLimiterBackend rateLimiterBackend,
+                           ErrorResponseWriter errorResponseWriter,
+                           JwtProvider jwtProvider,
+                           TokenDenylist tokenDenylist,
+                           RateLimitProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiterBackend = rateLimiterBackend;
+        this.errorResponseWriter = errorResponseWriter;
+        this.jwtProvider = jwtProvider;
+        this.tokenDenylist = tokenDenylist;
+        this.enabled = properties.isEnabled();
+        this.trustForwardedFor = properties.isTrustForwardedFor();
+        this.rules = properties.getRules().stream().map(CompiledRule::new).toList();
+        this.rejected = Counter.builder("collabo.ratelimit.rejected")
+                .description("속도 제한으로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        CompiledRule rule = match(request);
+        if (rule != null) {
+            String key = rule.keyPrefix + resolveKey(rule.keyType, request);
+            long waitNanos = rateLimiterBackend.tryAcquire(key, rule.intervalNanos, rule.toleranceNanos);
+            if (waitNanos > 0) {
+                rejected.increment();
+                response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos))));
+                errorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${collabo.rate-limit.idle-eviction:PT1M}")
+    public void evictIdleKeys() {
+        rateLimiterBackend.evictIdle();
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CompiledRule rule : rules) {
+            if (rule.pattern.matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveKey(KeyType keyType, HttpServletRequest request) {
+        return switch (keyType) {
+            case ROUTE -> "";
+            case SUBJECT -> {
+                String subject = resolveSubject(request);
+                yield subject != null ? "sub:" + subject : "ip:" + clientIp(request);
+            }
+            case IP -> clientIp(request);
+        };
+    }
+
+    private String resolveSubject(HttpServletRequest request) {
+        String bearer = request.getHeader("Authorization");
+        if (bearer == null || !bearer.startsWith("Bearer ")) {
+            return null;
+        }
+        // 서명 검증 없이 캐시만 조회한다. 폐기된 토큰은 익명(IP)으로 취급
+        VerifiedToken verified = jwtProvider.findVerified(bearer.substring(7));
+        return verified != null && !tokenDenylist.isRevoked(verified.jtiHash()) ? verified.userId() : null;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isEmpty()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma > 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static final class CompiledRule {
+        private final PathPattern pattern;
+        private final KeyType keyType;
+        private final String keyPrefix;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+
+        private CompiledRule(Rule rule) {
+            this.pattern = PathPatternParser.defaultInstance.parse(rule.getPath());
+            this.keyType = rule.getKey();
+            this.keyPrefix = (rule.getId() != null ? rule.getId() : rule.getPath()) + ":";
+            this.intervalNanos = Math.max(1, rule.getPeriod().toNanos() / Math.max(1, rule.getLimit()));
+            long burst = rule.getBurst() > 0 ? rule.getBurst() : rule.getLimit();
+            this.toleranceNanos = (burst - 1) * intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.collabo.global.filter;
+
+import com.example.collabo.global.config.JdbcInstrumentationProperties;
+import com.example.collabo.global.datasource.JdbcRequestStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 ID 부여 + 요청 단위 JDBC 통계
+ * - X-Request-Id 헤더가 있으면 그대로 쓰고 없으면 생성해서 응답 헤더와 MDC(requestId)에 넣는다
+ * - 요청이 끝나면 실행된 쿼리 수를 기록하고, 기준치를 넘으면 N+1 의심 경고를 남긴다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+    private static final int MAX_INCOMING_LENGTH = 64;
+
+    private final int statementsPerRequestWarn;
+    private final DistributionSummary statementsPerRequest;
+
+    public RequestIdFilter(JdbcInstrumentationProperties properties, MeterRegistry meterRegistry) {
+        this.statementsPerRequestWarn = properties.getStatementsPerRequestWarn();
+        this.statementsPerRequest = DistributionSummary.builder("collabo.jdbc.statements.per.request")
+                .description("요청 1건당 실행된 쿼리 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String requestId = resolveRequestId(request);
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        JdbcRequestStats stats = JdbcRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = stats.getStatements();
+            if (statements > 0) {
+                statementsPerRequest.record(statements);
+            }
+            if (statements > statementsPerRequestWarn) {
+                log.warn("[N+1 의심] {} {} - 쿼리 {}회, 쿼리 시간 {}ms, 조회 {}행, 커넥션 대기 {}ms",
+                        request.getMethod(), request.getRequestURI(), statements,
+                        TimeUnit.NANOSECONDS.toMillis(stats.getStatementNanos()), stats.getRows(),
+                        TimeUnit.NANOSECONDS.toMillis(stats.getConnectionWaitNanos()));
+            }
+            JdbcRequestStats.end();
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    // 외부에서 들어온 값은 길이/문자를 제한해서 로그 주입을 막는다
+    private String resolveRequestId(HttpServletRequest request) {
+        String incoming = request.getHeader(HEADER);
+        if (incoming != null && !incoming.isEmpty() && incoming.length() <= MAX_INCOMING_LENGTH
+                && incoming.chars().allMatch(c -> Character.isLetterOrDigit(c) || c == '-' || c == '_')) {
+            return incoming;
+        }
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.config.CompactTokenProperties;
+import com.example.collabo.global.config.JwtConfig;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 내부 서비스 간 호출용 바이너리 토큰 ("ct1." + Base64URL)
+ *
+ * 바이트 구성 (고정 순서):
+ *   userId (varint) | 역할 비트마스크 (varint) | 만료 시각 (epoch 초, 4바이트) | jti 해시 (8바이트) | HMAC-SHA256 앞 16바이트
+ *
+ * - JSON이 없으므로 검증은 Base64 디코딩 + HMAC 한 번 + 정수 읽기뿐이다
+ * - 디코딩 버퍼와 Mac은 풀에서 재사용하므로 검증 중 생성되는 객체는 결과(VerifiedToken)뿐이다
+ * - jti 해시는 교환한 원본 JWT의 값을 그대로 쓰므로, 원본을 로그아웃으로 폐기하면 이 토큰도 함께 폐기된다
+ * - MAC 키는 jwt.accessSecret에서 용도별로 파생한다 (JWT 서명 키와 분리)
+ */
+@Component
+public class CompactTokenCodec {
+
+    public static final String PREFIX = "ct1.";
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_BYTES = 16;
+    private static final int MIN_BYTES = 1 + 1 + 4 + 8 + MAC_BYTES;
+    private static final int MAX_BYTES = 10 + 5 + 4 + 8 + MAC_BYTES;
+    private static final int MAX_ENCODED_LENGTH = PREFIX.length() + (MAX_BYTES * 4 + 2) / 3;
+    private static final byte[] BASE64_URL_VALUES = base64UrlValues();
+
+    private final boolean enabled;
+    private final Duration validity;
+    private final SecretKeySpec macKey;
+    private final ConcurrentLinkedQueue<Scratch> scratches = new ConcurrentLinkedQueue<>();
+
+    public CompactTokenCodec(JwtConfig jwtConfig, CompactTokenProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.validity = properties.getValidity();
+        this.macKey = deriveKey(Base64.getDecoder().decode(jwtConfig.getBase64Secret()));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration validity() {
+        return validity;
+    }
+
+    public String issue(long userId, int roleMask, long expiresAtMillis, long jtiHash) {
+        byte[] bytes = new byte[MAX_BYTES];
+        int position = writeVarint(bytes, 0, userId);
+        position = writeVarint(bytes, position, roleMask & 0xFFFFFFFFL);
+        position = writeLong(bytes, position, expiresAtMillis / 1000, 4);
+        position = writeLong(bytes, position, jtiHash, 8);
+
+        Mac mac = newMac();
+        mac.update(bytes, 0, position);
+        System.arraycopy(mac.doFinal(), 0, bytes, position, MAC_BYTES);
+        position += MAC_BYTES;
+
+        return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(bytes, position));
+    }
+
+    /**
+     * @return 형식/MAC이 틀리거나 만료됐으면 null
+     */
+    public VerifiedToken verify(String token) {
+        if (!token.startsWith(PREFIX) || token.length() > MAX_ENCODED_LENGTH) {
+            return null;
+        }
+        Scratch scratch = scratches.poll();
+        if (scratch == null) {
+            scratch = new Scratch(newMac());
+        }
+        try {
+            return verify(token, scratch);
+        } finally {
+            scratches.offer(scratch);
+        }
+    }
+
+    private VerifiedToken verify(String token, Scratch scratch) {
+        byte[] bytes = scratch.bytes;
+        int length = decodeBase64Url(token, PREFIX.length(), bytes);
+        if (length < MIN_BYTES) {
+            return null;
+        }
+        int payloadLength = length - MAC_BYTES;
+
+        Mac mac = scratch.mac;
+        mac.update(bytes, 0, payloadLength);
+        try {
+            mac.doFinal(scratch.mac32, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        int diff = 0; // 상수 시간 비교
+        for (int i = 0; i < MAC_BYTES; i++) {
+            diff |= scratch.mac32[i] ^ bytes[payloadLength + i];
+        }
+        if (diff != 0) {
+            return null;
+        }
+
+        scratch.position = 0;
+        long userId = readVarint(scratch, payloadLength);
+        long roleMask = readVarint(scratch, payloadLength);
+        if (userId < 0 || roleMask < 0 || roleMask > 0xFFFFFFFFL || scratch.position + 12 != payloadLength) {
+            return null;
+        }
+        int position = scratch.position;
+        long expiresAtMillis = readLong(bytes, position, 4) * 1000;
+        long jtiHash = readLong(bytes, position + 4, 8);
+        if (System.currentTimeMillis() >= expiresAtMillis) {
+            return null;
+        }
+        return new VerifiedToken(Long.toString(userId), (int) roleMask, jtiHash, expiresAtMillis);
+    }
+
+    // ---- 인코딩 ----
+
+    private static int writeVarint(byte[] bytes, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+        return position;
+    }
+
+    private static int writeLong(byte[] bytes, int position, long value, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            bytes[position++] = (byte) (value >>> (i * 8));
+        }
+        return position;
+    }
+
+    // ---- 디코딩 ----
+
+    /**
+     * @return 디코딩된 바이트 수, 형식이 틀리면 -1
+     */
+    private static int decodeBase64Url(String token, int offset, byte[] out) {
+        int length = token.length() - offset;
+        if (length % 4 == 1) {
+            return -1;
+        }
+        int written = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = offset; i < token.length(); i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? BASE64_URL_VALUES[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[written++] = (byte) (bits >>> bitCount);
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * scratch.position에서 varint를 읽고 위치를 옮긴다.
+     *
+     * @return 값, 형식이 틀리면 -1
+     */
+    private static long readVarint(Scratch scratch, int limit) {
+        long value = 0;
+        for (int shift = 0; shift < 63 && scratch.position < limit; shift += 7) {
+            byte b = scratch.bytes[scratch.position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        return -1;
+    }
+
+    private static long readLong(byte[] bytes, int position, int width) {
+        long value = 0;
+        for (int i = 0; i < width; i++) {
+            value = (value << 8) | (bytes[position + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(macKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 초기화 실패", e);
+        }
+    }
+
+    private static SecretKeySpec deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, MAC_ALGORITHM));
+            return new SecretKeySpec(mac.doFinal("collabo-compact-token-v1".getBytes(StandardCharsets.US_ASCII)),
+                    MAC_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("압축 토큰 키 파생 실패", e);
+        }
+    }
+
+    private static byte[] base64UrlValues() {
+        byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            values[alphabet.charAt(i)] = (byte) i;
+        }
+        return values;
+    }
+
+    /**
+     * 검증 한 번에 필요한 재사용 버퍼
+     */
+    private static final class Scratch {
+        final Mac mac;
+        final byte[] bytes = new byte[MAX_BYTES];
+        final byte[] mac32 = new byte[32];
+        int position;
+
+        Scratch(Mac mac) {
+            this.mac = mac;
+        }
+    }
+}
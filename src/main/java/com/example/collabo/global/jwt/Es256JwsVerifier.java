@@ -0,0 +1,137 @@
+package com.example.collabo.global.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ES256 JWS 검증 + 클레임 파싱
+ *
+ * jjwt 파서는 검증할 때마다 Signature를 새로 만들기 때문에, 서명 검증은 JwtKeyRing의 키별 Signature 풀로 직접 수행한다.
+ * - 같은 키로 서명된 토큰은 헤더 세그먼트가 동일하므로 헤더 → 키 매핑을 캐시해서 헤더 JSON 파싱을 생략한다
+ *   (서명 검증을 통과한 헤더만, 키 링에 남아 있는 kid 수만큼만 보관한다)
+ * - 예외 타입은 jjwt와 같게 맞춰서 호출부(만료/위조 구분)는 알고리즘과 무관하게 동작한다
+ * - HS512 헤더는 legacyParser가 있으면 그쪽으로 넘긴다 (ES256 전환 직후 기존 토큰 허용)
+ */
+class Es256JwsVerifier {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader CLAIMS_READER = OBJECT_MAPPER.readerFor(Map.class);
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+    private static final int SIGNATURE_BYTES = 64;
+
+    private final JwtKeyRing keyRing;
+    private final JwtParser legacyParser;
+    private final ConcurrentHashMap<String, String> kidByHeader = new ConcurrentHashMap<>();
+
+    Es256JwsVerifier(JwtKeyRing keyRing, JwtParser legacyParser) {
+        this.keyRing = keyRing;
+        this.legacyParser = legacyParser;
+    }
+
+    Claims parseClaims(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new MalformedJwtException("JWS는 세 부분으로 구성되어야 합니다");
+        }
+
+        String header = token.substring(0, headerEnd);
+        String kid = kidByHeader.get(header);
+        boolean cached = kid != null;
+        if (!cached) {
+            kid = readKid(header);
+            if (kid == null) {
+                return legacyParser.parseClaimsJws(token).getBody();
+            }
+        }
+
+        JwtKeyRing.SigningKey key = keyRing.find(kid);
+        if (key == null) {
+            if (cached) {
+                kidByHeader.remove(header); // 보존 기간이 지나 키 링에서 빠진 키
+            }
+            throw new SignatureException("알 수 없는 서명 키: kid=" + kid);
+        }
+        byte[] signature = decode(token.substring(payloadEnd + 1));
+        if (signature.length != SIGNATURE_BYTES
+                || !key.verify(token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII), signature)) {
+            throw new SignatureException("JWT 서명이 유효하지 않습니다");
+        }
+        if (!cached) {
+            cacheHeader(header, kid);
+        }
+
+        Claims claims;
+        try {
+            claims = Jwts.claims(CLAIMS_READER.readValue(decode(token.substring(headerEnd + 1, payloadEnd))));
+        } catch (IOException e) {
+            throw new MalformedJwtException("JWT 클레임을 읽을 수 없습니다", e);
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration != null && System.currentTimeMillis() >= expiration.getTime()) {
+            throw new ExpiredJwtException(null, claims, "JWT가 만료되었습니다: " + expiration);
+        }
+        return claims;
+    }
+
+    int cachedHeaderCount() {
+        return kidByHeader.size();
+    }
+
+    /**
+     * 이 서버가 발급한 토큰은 kid당 헤더가 한 가지이므로, 키 링에 남은 키 수를 넘게 보관할 이유가 없다.
+     */
+    private void cacheHeader(String header, String kid) {
+        kidByHeader.values().removeIf(cachedKid -> keyRing.find(cachedKid) == null);
+        if (kidByHeader.size() < keyRing.size()) {
+            kidByHeader.put(header, kid);
+        }
+    }
+
+    /**
+     * @return ES256 헤더의 kid, HS512 헤더이고 legacyParser가 있으면 null
+     */
+    private String readKid(String header) {
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(decode(header));
+        } catch (IOException e) {
+            throw new MalformedJwtException("JWT 헤더를 읽을 수 없습니다", e);
+        }
+        String algorithm = node.path("alg").asText();
+        if ("HS512".equals(algorithm) && legacyParser != null) {
+            return null;
+        }
+        if (!JwtKeyRing.JWS_ALGORITHM.equals(algorithm)) {
+            throw new UnsupportedJwtException("지원하지 않는 서명 알고리즘: " + algorithm);
+        }
+        JsonNode kid = node.get("kid");
+        if (kid == null || !kid.isTextual()) {
+            throw new MalformedJwtException("JWT 헤더에 kid가 없습니다");
+        }
+        return kid.asText();
+    }
+
+    private static byte[] decode(String base64Url) {
+        try {
+            return BASE64_URL.decode(base64Url);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Base64URL 디코딩 실패", e);
+        }
+    }
+}
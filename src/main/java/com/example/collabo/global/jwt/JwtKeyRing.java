@@ -0,0 +1,333 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.config.JwtConfig;
+import com.example.collabo.global.config.JwtSigningProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * ES256 서명 키 링 (jwt.signing.algorithm=ES256일 때만 동작)
+ *
+ * - 키는 kid로 구분하고 key-dir에 [kid].key(PKCS#8) / [kid].pub(X.509)로 저장한다. kid는 생성 시각(epoch 초, 36진수)
+ * - rotation-period마다 새 키를 만들고, publish-ahead 동안은 JWKS에만 공개한 뒤 서명에 사용한다
+ * - 교체된 키는 그 키로 서명된 토큰이 모두 만료될 때까지(리프레시 토큰 유효기간) 검증용으로 남긴다
+ * - 조회용 스냅샷은 불변 객체로 교체하므로 검증 경로에는 락이 없다
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    static final String JWS_ALGORITHM = "ES256";
+    // JWS 서명 형식(R||S 64바이트)을 그대로 받는 JCA 알고리즘 (DER 변환 불필요)
+    private static final String VERIFY_ALGORITHM = "SHA256withECDSAinP1363Format";
+    private static final int COORDINATE_BYTES = 32;
+
+    private final JwtSigningProperties properties;
+    private final Duration retention;
+    private final Path keyDir;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public JwtKeyRing(JwtSigningProperties properties, JwtConfig jwtConfig) {
+        this.properties = properties;
+        this.retention = Duration.ofMillis(jwtConfig.getRefreshTokenValidity());
+        this.keyDir = Path.of(properties.getKeyDir()).toAbsolutePath();
+    }
+
+    @PostConstruct
+    public void init() {
+        if (isEnabled()) {
+            refresh();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEs256();
+    }
+
+    /**
+     * 디스크의 키 목록을 다시 읽고, 교체 주기가 됐으면 새 키를 만들고, 보존 기간이 지난 키를 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.check-interval:PT1M}")
+    public synchronized void refresh() {
+        if (!isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<SigningKey> keys = loadKeys();
+
+        if (properties.isRotationEnabled()) {
+            boolean due = keys.isEmpty() || !keys.get(keys.size() - 1).createdAt()
+                    .plus(properties.getRotationPeriod()).minus(properties.getPublishAhead()).isAfter(now);
+            if (due) {
+                keys.add(generateKey(now));
+                log.info("[JWT] 새 서명 키 생성: kid={}", keys.get(keys.size() - 1).kid());
+            }
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("서명 키가 없습니다: " + keyDir + " (jwt.signing.rotation-enabled 확인)");
+        }
+
+        List<SigningKey> retained = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            SigningKey key = keys.get(i);
+            boolean expired = i + 1 < keys.size()
+                    && !activatesAt(keys.get(i + 1)).plus(retention).isAfter(now);
+            if (!expired) {
+                retained.add(key);
+            } else if (properties.isRotationEnabled()) {
+                deleteKey(key.kid());
+                log.info("[JWT] 보존 기간이 지난 서명 키 삭제: kid={}", key.kid());
+            }
+        }
+        snapshot = new Snapshot(retained);
+    }
+
+    /**
+     * 새로 발급하는 토큰에 사용할 키: 활성화 시각이 지난 키 중 가장 최근 키
+     */
+    public SigningKey signingKey() {
+        Snapshot current = snapshot;
+        Instant now = Instant.now();
+        SigningKey signing = current.keys.get(0);
+        for (SigningKey key : current.keys) {
+            if (!activatesAt(key).isAfter(now)) {
+                signing = key;
+            }
+        }
+        return signing;
+    }
+
+    /**
+     * @return 모르는 kid면 null
+     */
+    public SigningKey find(String kid) {
+        return snapshot.byKid.get(kid);
+    }
+
+    /**
+     * @return 검증에 쓸 수 있는 키 수
+     */
+    public int size() {
+        return snapshot.keys.size();
+    }
+
+    /**
+     * RFC 7517 JWK Set (공개 키만 포함)
+     */
+    public Map<String, Object> jwks() {
+        return snapshot.jwks;
+    }
+
+    public Duration jwksMaxAge() {
+        return properties.getJwksMaxAge();
+    }
+
+    private Instant activatesAt(SigningKey key) {
+        return key.createdAt().plus(properties.getPublishAhead());
+    }
+
+    private List<SigningKey> loadKeys() {
+        Map<String, SigningKey> loaded = snapshot.byKid;
+        List<SigningKey> keys = new ArrayList<>();
+        if (!Files.isDirectory(keyDir)) {
+            return keys;
+        }
+        try (Stream<Path> files = Files.list(keyDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(".key")) {
+                    continue;
+                }
+                String kid = name.substring(0, name.length() - 4);
+                SigningKey key = loaded.get(kid);
+                keys.add(key != null ? key : readKey(kid)); // 이미 읽은 키는 Signature 풀과 함께 재사용
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        keys.sort(Comparator.comparing(SigningKey::createdAt));
+        return keys;
+    }
+
+    private SigningKey readKey(String kid) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            ECPrivateKey privateKey = (ECPrivateKey) keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Files.readAllBytes(keyDir.resolve(kid + ".key"))));
+            ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Files.readAllBytes(keyDir.resolve(kid + ".pub"))));
+            return new SigningKey(kid, Instant.ofEpochSecond(Long.parseLong(kid, 36)), privateKey, publicKey);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (GeneralSecurityException | NumberFormatException e) {
+            throw new IllegalStateException("서명 키를 읽을 수 없습니다: kid=" + kid, e);
+        }
+    }
+
+    private SigningKey generateKey(Instant now) {
+        String kid = Long.toString(now.getEpochSecond(), 36);
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair pair = generator.generateKeyPair();
+
+            Files.createDirectories(keyDir);
+            // 공개 키를 먼저 쓰고 개인 키를 원자적으로 옮겨서, 다른 인스턴스가 반쯤 쓰인 키를 읽지 않도록 한다
+            writeAtomically(keyDir.resolve(kid + ".pub"), pair.getPublic().getEncoded());
+            writeAtomically(keyDir.resolve(kid + ".key"), pair.getPrivate().getEncoded());
+            return new SigningKey(kid, Instant.ofEpochSecond(now.getEpochSecond()),
+                    (ECPrivateKey) pair.getPrivate(), (ECPublicKey) pair.getPublic());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 생성 실패", e);
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(keyDir, ".tmp-", null); // POSIX에서는 소유자만 읽기/쓰기(600)로 생성된다
+        Files.write(temp, bytes);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteKey(String kid) {
+        try {
+            Files.deleteIfExists(keyDir.resolve(kid + ".key"));
+            Files.deleteIfExists(keyDir.resolve(kid + ".pub"));
+        } catch (IOException e) {
+            log.warn("[JWT] 서명 키 삭제 실패: kid={}", kid, e);
+        }
+    }
+
+    /**
+     * kid 하나에 해당하는 키 쌍.
+     * 검증용 Signature는 initVerify까지 끝난 상태로 풀에 보관해서 요청마다 새로 만들지 않는다.
+     * (verify() 호출 후 Signature는 initVerify 직후 상태로 돌아가므로 그대로 재사용할 수 있다)
+     */
+    public static final class SigningKey {
+
+        private final String kid;
+        private final Instant createdAt;
+        private final ECPrivateKey privateKey;
+        private final ECPublicKey publicKey;
+        private final ConcurrentLinkedQueue<Signature> verifiers = new ConcurrentLinkedQueue<>();
+
+        SigningKey(String kid, Instant createdAt, ECPrivateKey privateKey, ECPublicKey publicKey) {
+            this.kid = kid;
+            this.createdAt = createdAt;
+            this.privateKey = privateKey;
+            this.publicKey = publicKey;
+        }
+
+        public String kid() {
+            return kid;
+        }
+
+        public Instant createdAt() {
+            return createdAt;
+        }
+
+        public ECPrivateKey privateKey() {
+            return privateKey;
+        }
+
+        public ECPublicKey publicKey() {
+            return publicKey;
+        }
+
+        /**
+         * @param signature JWS 형식의 R||S (64바이트)
+         */
+        public boolean verify(byte[] signingInput, byte[] signature) {
+            Signature verifier = verifiers.poll();
+            try {
+                if (verifier == null) {
+                    verifier = Signature.getInstance(VERIFY_ALGORITHM);
+                    verifier.initVerify(publicKey);
+                }
+                verifier.update(signingInput);
+                boolean valid = verifier.verify(signature);
+                verifiers.offer(verifier);
+                return valid;
+            } catch (SignatureException e) {
+                return false; // 형식이 잘못된 서명 (이 인스턴스는 풀에 돌려놓지 않는다)
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("ES256 검증기 초기화 실패", e);
+            }
+        }
+
+        Map<String, Object> toJwk() {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("use", "sig");
+            jwk.put("alg", JWS_ALGORITHM);
+            jwk.put("kid", kid);
+            jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+            jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+            return Collections.unmodifiableMap(jwk);
+        }
+
+        static String coordinate(BigInteger value) {
+            byte[] bytes = value.toByteArray(); // 부호 바이트가 붙거나 앞자리 0이 빠질 수 있으므로 32바이트로 맞춘다
+            byte[] fixed = new byte[COORDINATE_BYTES];
+            int length = Math.min(bytes.length, COORDINATE_BYTES);
+            System.arraycopy(bytes, bytes.length - length, fixed, COORDINATE_BYTES - length, length);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+        }
+    }
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(List.of());
+
+        final List<SigningKey> keys;
+        final Map<String, SigningKey> byKid;
+        final Map<String, Object> jwks;
+
+        Snapshot(List<SigningKey> keys) {
+            this.keys = List.copyOf(keys);
+            Map<String, SigningKey> byKid = new HashMap<>();
+            List<Map<String, Object>> jwkList = new ArrayList<>(keys.size());
+            for (SigningKey key : keys) {
+                byKid.put(key.kid(), key);
+                jwkList.add(key.toJwk());
+            }
+            this.byKid = Map.copyOf(byKid);
+            this.jwks = Map.of("keys", List.copyOf(jwkList));
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.example.collabo.global.jwt;
 
 import com.example.collabo.global.config.JwtConfig;
+import com.example.collabo.global.config.JwtSigningProperties;
+import com.example.collabo.global.exception.CustomException;
+import com.example.collabo.global.exception.ErrorCode;
+import com.example.collabo.global.security.AuthorityRegistry;
+import com.example.collabo.global.security.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.annotation.PostConstruct;
@@ -11,37 +19,76 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
 
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+    public static final String ROLES_CLAIM = "rol"; // 역할 비트마스크 (Role)
+    private static final String LEGACY_ROLES_CLAIM = "roles";
+
     private final JwtConfig jwtConfig;
     private final JwtSecretHashUtil jwtSecretHashUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtSigningProperties signingProperties;
+    private final CompactTokenCodec compactTokenCodec;
 
     private SecretKey secretKey;
+    private JwtParser jwtParser; // 스레드 세이프하므로 한 번만 생성해서 재사용
+    private Es256JwsVerifier es256Verifier; // jwt.signing.algorithm=ES256일 때만 사용
 
     @PostConstruct
     public void init() {
         this.secretKey = jwtSecretHashUtil.getSecretKey(jwtConfig.getBase64Secret(), "HmacSHA512");
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        if (jwtKeyRing.isEnabled()) {
+            this.es256Verifier = new Es256JwsVerifier(jwtKeyRing,
+                    signingProperties.isAcceptLegacyHs512() ? jwtParser : null);
+        }
     }
 
     public String generateAccessToken(Long userId, String email) {
-        return Jwts.builder()
+        return generateAccessToken(userId, email, Role.USER.bit());
+    }
+
+    public String generateAccessToken(Long userId, String email, int roleMask) {
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(String.valueOf(userId))
                 .claim("email", email)
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .claim(ROLES_CLAIM, roleMask)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtConfig.getAccessTokenValidity()))
-                .signWith(secretKey, SignatureAlgorithm.HS512)
-                .compact();
+                .setExpiration(new Date(System.currentTimeMillis() + jwtConfig.getAccessTokenValidity()));
+        return sign(builder);
     }
 
+    public String generateRefreshToken(Long userId) {
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(String.valueOf(userId))
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + jwtConfig.getRefreshTokenValidity()));
+        return sign(builder);
+    }
+
+    /**
+     * ES256이면 헤더의 kid로 키 링에서 공개 키를 골라 서명을 검증한다.
+     */
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        if (es256Verifier != null) {
+            return es256Verifier.parseClaims(token);
+        }
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public boolean validateToken(String token) {
@@ -52,4 +99,107 @@ public class JwtProvider {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 리프레시 토큰 파싱 (만료/위조/타입 불일치 시 CustomException)
+     */
+    public Claims parseRefreshToken(String token) {
+        Claims claims;
+        try {
+            claims = parseClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(ErrorCode.TOKEN_EXPIRATION);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new CustomException(ErrorCode.UNMATCHED_TOKEN);
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해서 검증과 인증 정보 추출을 함께 처리한다.
+     * 이미 검증된 토큰이면 캐시된 결과를 그대로 반환한다.
+     * "ct1."로 시작하면 내부 호출용 바이너리 토큰(CompactTokenCodec)으로 검증한다.
+     *
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public VerifiedToken verify(String token) {
+        if (token.startsWith(CompactTokenCodec.PREFIX)) {
+            // 바이너리 토큰은 디코딩이 다이제스트 계산보다 싸므로 캐시를 거치지 않는다
+            return compactTokenCodec.isEnabled() ? compactTokenCodec.verify(token) : null;
+        }
+
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        // 리프레시 토큰으로는 API 인증 불가
+        if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            return null;
+        }
+
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                roleMaskOf(claims),
+                TokenDenylist.hashJti(claims.getId()),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE
+        );
+        verifiedTokenCache.put(token, verified);
+        return verified;
+    }
+
+    /**
+     * 서명 검증 없이 이미 검증된 결과만 조회한다 (검증 캐시 또는 ct1. 토큰의 HMAC 확인).
+     * 요청을 받아들일지 정하기 전에 호출하는 속도 제한처럼, 서명 검증 비용을 쓰면 안 되는 곳에서 사용한다.
+     *
+     * @return 아직 검증된 적 없는 JWT거나 유효하지 않으면 null
+     */
+    public VerifiedToken findVerified(String token) {
+        if (token.startsWith(CompactTokenCodec.PREFIX)) {
+            return compactTokenCodec.isEnabled() ? compactTokenCodec.verify(token) : null;
+        }
+        return verifiedTokenCache.get(token);
+    }
+
+    /**
+     * 검증된 액세스 토큰을 내부 호출용 바이너리 토큰으로 바꾼다. jti는 원본과 같다.
+     * 만료 시각은 초 단위로 내림된다.
+     */
+    public String generateCompactToken(VerifiedToken source, long expiresAtMillis) {
+        return compactTokenCodec.issue(Long.parseLong(source.userId()), source.roleMask(),
+                expiresAtMillis, source.jtiHash());
+    }
+
+    private String sign(JwtBuilder builder) {
+        if (es256Verifier != null) {
+            JwtKeyRing.SigningKey signingKey = jwtKeyRing.signingKey();
+            return builder.setHeaderParam("kid", signingKey.kid())
+                    .signWith(signingKey.privateKey(), SignatureAlgorithm.ES256)
+                    .compact();
+        }
+        return builder.signWith(secretKey, SignatureAlgorithm.HS512).compact();
+    }
+
+    /**
+     * 역할 비트마스크 클레임이 없는 이전 토큰은 roles 목록을 변환하고, 둘 다 없으면 USER로 본다.
+     */
+    private int roleMaskOf(Claims claims) {
+        Integer mask = claims.get(ROLES_CLAIM, Integer.class);
+        if (mask != null) {
+            return mask;
+        }
+        List<?> roles = claims.get(LEGACY_ROLES_CLAIM, List.class);
+        int legacyMask = roles != null ? AuthorityRegistry.maskOfNames(roles) : 0;
+        return legacyMask != 0 ? legacyMask : Role.USER.bit();
+    }
+}
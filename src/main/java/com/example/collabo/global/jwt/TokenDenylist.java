@@ -0,0 +1,333 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.exception.CustomException;
+import com.example.collabo.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 폐기된 토큰(jti) 목록
+ *
+ * 메모리 맵 파일 위의 open addressing 해시 테이블이다. 슬롯은 [jti 해시(long), 만료 시각(long)] 16바이트.
+ * - 힙 밖에 저장되므로 수백만 건이 쌓여도 GC 부담이 없다
+ * - 조회는 락 없이 long 비교만 수행 (박싱/할당 없음)
+ * - 파일이 그대로 남기 때문에 재시작 시 DB에서 다시 읽을 필요가 없다
+ * - 만료 시각이 지난 슬롯은 새 항목이 재사용하고, 주기적인 정리(sweepExpired)가 비운다
+ * - 탐색 길이는 maxProbes로 제한한다. 삽입도 같은 범위 안에서만 하므로 조회가 이보다 길어지지 않는다
+ *
+ * 정리는 빈 슬롯을 만들 때 뒤쪽 항목을 당겨 오는 방식(backward shift)이라 만료 항목이 묘비처럼 남아 탐색을 늘리지 않는다.
+ * 항목이 옮겨지는 동안에는 락 없는 조회가 놓칠 수 있으므로, 옮기는 구간을 버전 번호로 감싸고
+ * 조회는 버전이 바뀌었으면 다시 읽는다 (seqlock).
+ *
+ * 파일은 노드마다 따로 있으므로 폐기 상태는 폐기 요청을 받은 인스턴스에만 반영된다.
+ * 여러 인스턴스를 띄우면 로그아웃/리프레시 토큰 재사용 차단이 다른 노드에서는 통하지 않으므로,
+ * 로드밸런서 세션 고정으로 한 노드에 묶거나 공유 저장소(Redis 등) 기반 구현으로 바꿔야 한다.
+ */
+@Slf4j
+@Component
+public class TokenDenylist implements DisposableBean {
+
+    private static final int MAGIC = 0x4A544458; // "JTDX"
+    private static final int HEADER_BYTES = 16;
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_CAPACITY = 1 << 26; // 1GB (매핑 크기 제한)
+    private static final int MAX_PROBES = 1024;
+    private static final int SWEEP_CHUNK = 65536; // 정리 중에도 revoke가 오래 기다리지 않도록 이 슬롯 수마다 락을 놓는다
+    private static final double WARN_LOAD_FACTOR = 0.75;
+
+    // tryRevoke 결과
+    private static final int INSERTED = 1;
+    private static final int ALREADY_REVOKED = 0;
+    private static final int NO_SLOT = -1;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final int maxProbes;
+
+    private int occupied;
+    private volatile int moveVersion; // 홀수면 항목을 옮기는 중
+
+    public TokenDenylist(@Value("${jwt.denylist.file:data/token-denylist.bin}") String file,
+                         @Value("${jwt.denylist.capacity:4194304}") int requestedCapacity) {
+        this.capacity = tableCapacity(requestedCapacity);
+        this.mask = capacity - 1;
+        this.maxProbes = Math.min(capacity, MAX_PROBES);
+
+        try {
+            Path path = Path.of(file).toAbsolutePath();
+            Files.createDirectories(path.getParent());
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long fileSize = HEADER_BYTES + (long) capacity * SLOT_BYTES;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            this.buffer.order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open token denylist file: " + file, e);
+        }
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != capacity) {
+            // 새 파일이거나 용량이 바뀐 경우 초기화
+            if (buffer.getInt(0) == MAGIC) {
+                log.warn("[토큰 폐기 목록] 용량 변경({} → {})으로 초기화합니다", buffer.getInt(4), capacity);
+            }
+            clearSlots();
+            buffer.putInt(4, capacity);
+            buffer.putInt(0, MAGIC);
+        } else {
+            this.occupied = countOccupied();
+        }
+
+        log.info("[토큰 폐기 목록] {} 로드 (용량: {}, 사용 중: {})", file, capacity, occupied);
+    }
+
+    /**
+     * jti 문자열을 0이 아닌 64bit 해시로 변환 (FNV-1a + 비트 혼합)
+     */
+    public static long hashJti(String jti) {
+        if (jti == null) {
+            return 0L;
+        }
+        long hash = 0xcbf29ce484222325L;
+        byte[] bytes = jti.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash = mix(hash);
+        return hash == 0L ? 1L : hash;
+    }
+
+    /**
+     * 요청 크기를 [1024, MAX_CAPACITY] 범위의 2의 거듭제곱으로 올린다 (범위를 먼저 자르므로 2^30보다 커도 넘치지 않음)
+     */
+    static int tableCapacity(int requestedCapacity) {
+        int clamped = Math.min(Math.max(requestedCapacity, 1024), MAX_CAPACITY);
+        return Integer.highestOneBit(clamped - 1) << 1;
+    }
+
+    public boolean isRevoked(long jtiHash) {
+        if (jtiHash == 0L) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        while (true) {
+            int version = moveVersion;
+            if ((version & 1) == 0) {
+                boolean revoked = lookup(jtiHash, now);
+                // 슬롯 읽기가 버전 재확인 뒤로 밀리지 않도록 (StampedLock.validate와 같은 방식)
+                VarHandle.acquireFence();
+                if (moveVersion == version) {
+                    return revoked;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @param expiresAtMillis 토큰 원래 만료 시각 (이후에는 폐기 여부를 확인할 필요가 없으므로 슬롯 재사용)
+     * @return 이번 호출로 새로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     * @throws CustomException 테이블이 가득 차서 저장하지 못한 경우 (TOKEN_DENYLIST_FULL)
+     */
+    public synchronized boolean revoke(long jtiHash, long expiresAtMillis) {
+        if (jtiHash == 0L) {
+            return false;
+        }
+        int result = tryRevoke(jtiHash, expiresAtMillis);
+        if (result == NO_SLOT) {
+            // 탐색 범위 안에 자리가 없으면 만료 항목을 정리하고 한 번 더 시도
+            sweepExpired();
+            result = tryRevoke(jtiHash, expiresAtMillis);
+        }
+        if (result == NO_SLOT) {
+            log.error("[토큰 폐기 목록] 테이블이 가득 차서 저장하지 못했습니다 (용량: {}, 사용 중: {})", capacity, occupied);
+            throw new CustomException(ErrorCode.TOKEN_DENYLIST_FULL);
+        }
+        return result == INSERTED;
+    }
+
+    /**
+     * 만료된 항목을 비우고 뒤쪽 항목을 당겨 와서 탐색 길이를 줄인다.
+     *
+     * @return 비운 항목 수
+     */
+    @Scheduled(fixedDelayString = "${jwt.denylist.sweep-interval:PT10M}")
+    public int sweepExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        for (int start = 0; start < capacity; start += SWEEP_CHUNK) {
+            removed += sweepChunk(start, Math.min(start + SWEEP_CHUNK, capacity), now);
+        }
+        if (removed > 0) {
+            log.info("[토큰 폐기 목록] 만료 항목 {}건 정리 (사용 중: {})", removed, size());
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return occupied;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private boolean lookup(long jtiHash, long now) {
+        int index = home(jtiHash);
+        for (int probe = 0; probe < maxProbes; probe++) {
+            int offset = slotOffset(index);
+            long key = (long) LONGS.getAcquire(buffer, offset);
+            if (key == 0L) {
+                return false;
+            }
+            if (key == jtiHash) {
+                return (long) LONGS.getAcquire(buffer, offset + 8) > now;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    private int tryRevoke(long jtiHash, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        int index = home(jtiHash);
+        int reusable = -1;
+
+        for (int probe = 0; probe < maxProbes; probe++) {
+            int offset = slotOffset(index);
+            long key = (long) LONGS.getAcquire(buffer, offset);
+            if (key == jtiHash) {
+                LONGS.setRelease(buffer, offset + 8, Math.max(expiresAtMillis, (long) LONGS.getAcquire(buffer, offset + 8)));
+                return ALREADY_REVOKED;
+            }
+            if (key == 0L) {
+                if (reusable >= 0) {
+                    break;
+                }
+                // 만료 시각을 먼저 기록한 뒤 키를 공개
+                LONGS.setRelease(buffer, offset + 8, expiresAtMillis);
+                LONGS.setRelease(buffer, offset, jtiHash);
+                occupied++;
+                if (occupied > capacity * WARN_LOAD_FACTOR) {
+                    log.warn("[토큰 폐기 목록] 사용률 {}% - jwt.denylist.capacity 증설 필요", occupied * 100L / capacity);
+                }
+                return INSERTED;
+            }
+            if (reusable < 0 && (long) LONGS.getAcquire(buffer, offset + 8) <= now) {
+                reusable = offset;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (reusable >= 0) {
+            // 빈 슬롯과 같은 순서: 새 키가 이전 항목의 만료 시각과 함께 보이지 않도록
+            LONGS.setRelease(buffer, reusable + 8, expiresAtMillis);
+            LONGS.setRelease(buffer, reusable, jtiHash);
+            return INSERTED;
+        }
+        return NO_SLOT;
+    }
+
+    private synchronized int sweepChunk(int from, int to, long now) {
+        int removed = 0;
+        for (int index = from; index < to; index++) {
+            int offset = slotOffset(index);
+            // 당겨 온 항목도 만료됐을 수 있으므로 같은 슬롯을 다시 확인
+            while (buffer.getLong(offset) != 0L && buffer.getLong(offset + 8) <= now) {
+                moveVersion++;
+                removeAt(index);
+                moveVersion++;
+                removed++;
+            }
+        }
+        occupied -= removed;
+        return removed;
+    }
+
+    /**
+     * 선형 탐사 삭제 (Knuth Algorithm R): 비운 자리 뒤의 같은 클러스터 항목 중
+     * 원래 위치(home)가 빈자리 이전인 항목을 당겨 오고, 마지막 빈자리만 0으로 만든다.
+     */
+    private void removeAt(int hole) {
+        int index = hole;
+        for (int step = 1; step < capacity; step++) {
+            index = (index + 1) & mask;
+            int offset = slotOffset(index);
+            long key = buffer.getLong(offset);
+            if (key == 0L) {
+                break;
+            }
+            if (((index - home(key)) & mask) >= ((index - hole) & mask)) {
+                int holeOffset = slotOffset(hole);
+                LONGS.setRelease(buffer, holeOffset + 8, buffer.getLong(offset + 8));
+                LONGS.setRelease(buffer, holeOffset, key);
+                hole = index;
+            }
+        }
+        int holeOffset = slotOffset(hole);
+        LONGS.setRelease(buffer, holeOffset, 0L);
+        LONGS.setRelease(buffer, holeOffset + 8, 0L);
+    }
+
+    private int countOccupied() {
+        int count = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (buffer.getLong(slotOffset(i)) != 0L) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void clearSlots() {
+        for (int i = 0; i < capacity; i++) {
+            int offset = slotOffset(i);
+            buffer.putLong(offset, 0L);
+            buffer.putLong(offset + 8, 0L);
+        }
+        occupied = 0;
+    }
+
+    private int home(long jtiHash) {
+        return (int) mix(jtiHash) & mask;
+    }
+
+    private static int slotOffset(int index) {
+        return HEADER_BYTES + index * SLOT_BYTES;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.security.TokenAuthentication;
+
+/**
+ * 서명 검증이 끝난 토큰에서 추출한 인증 정보
+ * authentication은 불변이므로 SecurityContext에 그대로 넣는다 (캐시된 토큰이면 요청 간 같은 인스턴스).
+ */
+public record VerifiedToken(TokenAuthentication authentication, long jtiHash, long expiresAtMillis) {
+
+    public VerifiedToken(String userId, int roleMask, long jtiHash, long expiresAtMillis) {
+        this(new TokenAuthentication(userId, roleMask), jtiHash, expiresAtMillis);
+    }
+
+    public String userId() {
+        return authentication.getName();
+    }
+
+    public int roleMask() {
+        return authentication.roleMask();
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.collabo.global.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 토큰의 SHA-256 다이제스트 → 인증 정보 캐시
+ * 같은 토큰이 반복해서 들어오면 서명 검증(HMAC-SHA512)과 JSON 파싱을 생략한다.
+ * 토큰 원문은 저장하지 않으며, 엔트리는 토큰 만료 시각까지만 유효하다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final long SWEEP_INTERVAL_MS = 1000;
+
+    // 플랫폼 스레드(풀 재사용)는 스레드별 인스턴스를 재사용하고,
+    // 가상 스레드는 요청마다 새 스레드라 ThreadLocal이 쌓이기만 하므로 프로토타입을 복제해서 사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(VerifiedTokenCache::createSha256);
+    private static final MessageDigest SHA_256_PROTOTYPE = createSha256();
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual(); // Thread.isVirtual() (Java 21+), 없으면 null
+
+    private final ConcurrentHashMap<TokenDigest, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private volatile long lastSweepMillis;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public VerifiedToken get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        TokenDigest key = digest(token);
+        VerifiedToken verified = entries.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest(token), verified);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료 엔트리를 먼저 정리하고, 그래도 가득 차 있으면 임의의 엔트리를 제거해 90%까지 줄인다.
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        if (now - lastSweepMillis >= SWEEP_INTERVAL_MS) {
+            lastSweepMillis = now;
+            entries.values().removeIf(verified -> verified.isExpired(now));
+        }
+
+        int target = (int) (maxSize * 0.9);
+        Iterator<TokenDigest> iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static TokenDigest digest(String token) {
+        MessageDigest sha256 = isVirtualThread() ? newSha256() : SHA_256.get(); // digest()가 상태를 초기화한다
+        byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return new TokenDigest(toLong(hash, 0), toLong(hash, 8));
+    }
+
+    private static MessageDigest createSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return (MessageDigest) SHA_256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return createSha256();
+        }
+    }
+
+    private static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    // 기본 툴체인(Java 17)에서도 컴파일되도록 메서드 핸들로 찾는다 (static final이라 JIT가 인라인한다)
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private record TokenDigest(long high, long low) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.collabo.global.metrics;
+
+import com.example.collabo.global.config.PerformanceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스/리포지토리 메서드 지연시간 기록기
+ *
+ * Micrometer Timer(collabo.method.latency)에 나노초 단위로 기록하고 p50/p99/p999를 퍼블리시한다.
+ * Timer 내부의 HdrHistogram Recorder는 락 없이 기록되므로 호출 스레드가 경합하지 않는다.
+ * 조회: /actuator/metrics/collabo.method.latency?tag=class:UserService&tag=method:findById
+ */
+@Component
+@RequiredArgsConstructor
+public class MethodLatencyRecorder {
+
+    public static final String LATENCY_METRIC = "collabo.method.latency";
+    public static final String FAILURE_METRIC = "collabo.method.failures";
+
+    public enum Layer {
+        SERVICE, REPOSITORY
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final PerformanceProperties performanceProperties;
+
+    private final ConcurrentHashMap<Method, MethodMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+    public MethodMetrics metricsFor(ProceedingJoinPoint joinPoint, Layer layer) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        MethodMetrics metrics = metricsByMethod.get(method);
+        if (metrics != null) {
+            return metrics;
+        }
+        return metricsByMethod.computeIfAbsent(method, key ->
+                create(signature.getDeclaringType().getSimpleName(), key.getName(), layer));
+    }
+
+    public MethodMetrics create(String className, String methodName, Layer layer) {
+        String layerTag = layer.name().toLowerCase();
+        Duration defaultSlow = layer == Layer.SERVICE
+                ? performanceProperties.getServiceSlowThreshold()
+                : performanceProperties.getRepositorySlowThreshold();
+        Duration slowThreshold = performanceProperties.slowThresholdFor(className + "." + methodName, defaultSlow);
+        Duration infoThreshold = layer == Layer.SERVICE
+                ? performanceProperties.getServiceInfoThreshold()
+                : slowThreshold;
+
+        Timer timer = Timer.builder(LATENCY_METRIC)
+                .description("서비스/리포지토리 메서드 실행 시간")
+                .tag("layer", layerTag)
+                .tag("class", className)
+                .tag("method", methodName)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+
+        Counter failures = Counter.builder(FAILURE_METRIC)
+                .description("예외로 종료된 메서드 호출 수")
+                .tag("layer", layerTag)
+                .tag("class", className)
+                .tag("method", methodName)
+                .register(meterRegistry);
+
+        return new MethodMetrics(className, methodName,
+                slowThreshold.toNanos(), infoThreshold.toNanos(), timer, failures);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.collabo.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드 1개에 대한 미리 계산된 메타데이터 + 지표
+ * 호출마다 시그니처 문자열을 만들지 않도록 최초 호출 시 한 번만 생성한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MethodMetrics {
+
+    private final String className;
+    private final String methodName;
+    private final long slowThresholdNanos;
+    private final long infoThresholdNanos;
+    private final Timer timer;
+    private final Counter failures;
+
+    public void record(long elapsedNanos) {
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFailure(long elapsedNanos) {
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        failures.increment();
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos > slowThresholdNanos;
+    }
+
+    public boolean isNotable(long elapsedNanos) {
+        return elapsedNanos > infoThresholdNanos;
+    }
+
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.collabo.global.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 로컬 GCRA 속도 제한
+ * 키마다 이론적 도착 시각(TAT) 하나만 AtomicLong으로 저장하고 CAS로 갱신한다 (락 없음).
+ */
+@Component
+public class LocalRateLimiterBackend implements RateLimiterBackend {
+
+    private final ConcurrentHashMap<String, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryAcquire(String key, long intervalNanos, long toleranceNanos) {
+        long now = System.nanoTime();
+        AtomicLong tatRef = theoreticalArrivals.get(key);
+        if (tatRef == null) {
+            tatRef = theoreticalArrivals.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = tatRef.get();
+            long base = Math.max(tat, now);
+            long waitNanos = base - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tatRef.compareAndSet(tat, base + intervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    @Override
+    public void evictIdle() {
+        // TAT가 현재보다 과거면 버킷이 가득 찬 상태와 같으므로 제거해도 동작이 바뀌지 않는다
+        long now = System.nanoTime();
+        theoreticalArrivals.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+
+    public int size() {
+        return theoreticalArrivals.size();
+    }
+}
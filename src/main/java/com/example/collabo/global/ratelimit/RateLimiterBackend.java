@@ -0,0 +1,24 @@
+package com.example.collabo.global.ratelimit;
+
+/**
+ * 속도 제한 상태 저장소
+ * 로컬 메모리 구현(LocalRateLimiterBackend)을 기본으로 사용하며,
+ * 여러 인스턴스가 한도를 공유해야 하면 Redis 등 분산 저장소 구현으로 교체한다.
+ */
+public interface RateLimiterBackend {
+
+    /**
+     * GCRA(Generic Cell Rate Algorithm) 기반 요청 허용 여부 판단
+     *
+     * @param key              제한 단위 키 (규칙 ID + IP/subject)
+     * @param intervalNanos    요청 1건당 간격 (period / limit)
+     * @param toleranceNanos   순간 허용량 (burst - 1) * interval
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    long tryAcquire(String key, long intervalNanos, long toleranceNanos);
+
+    /**
+     * 더 이상 제한 상태가 남아 있지 않은 키 정리
+     */
+    void evictIdle();
+}
@@ -0,0 +1,89 @@
+package com.example.collabo.global.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 역할 ↔ 권한 변환을 한곳에서 담당한다 (역할별 "ROLE_" 권한, 비트마스크 → 권한 목록 테이블).
+ * 역할 수가 적으므로 가능한 모든 조합을 기동 시 만들어 두고, 요청마다 GrantedAuthority를 새로 만들지 않는다.
+ */
+public final class AuthorityRegistry {
+
+    private static final Role[] ROLES = Role.values();
+    private static final GrantedAuthority[] AUTHORITY_BY_ORDINAL = buildAuthorities(); // Role.ordinal() 인덱스
+    private static final List<List<GrantedAuthority>> AUTHORITIES_BY_MASK = buildTable();
+
+    private AuthorityRegistry() {
+    }
+
+    public static GrantedAuthority authority(Role role) {
+        return AUTHORITY_BY_ORDINAL[role.ordinal()];
+    }
+
+    /**
+     * @return 같은 마스크면 항상 같은 불변 리스트. 정의되지 않은 비트는 무시한다.
+     */
+    public static List<GrantedAuthority> authorities(int mask) {
+        return AUTHORITIES_BY_MASK.get(mask & Role.allMask());
+    }
+
+    /**
+     * ROLE_ 접두사가 붙은 권한만 비트로 바꾸고, 모르는 권한은 무시한다.
+     */
+    public static int maskOf(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority granted : authorities) {
+            mask |= bitOf(granted.getAuthority());
+        }
+        return mask;
+    }
+
+    /**
+     * 이전 형식의 roles 클레임(["ROLE_USER"] 또는 ["USER"])을 마스크로 바꾼다.
+     */
+    public static int maskOfNames(Collection<?> names) {
+        int mask = 0;
+        for (Object name : names) {
+            String value = String.valueOf(name);
+            mask |= bitOf(value.startsWith("ROLE_") ? value : "ROLE_" + value);
+        }
+        return mask;
+    }
+
+    private static int bitOf(String authority) {
+        for (Role role : ROLES) {
+            if (authority(role).getAuthority().equals(authority)) {
+                return role.bit();
+            }
+        }
+        return 0;
+    }
+
+    private static GrantedAuthority[] buildAuthorities() {
+        GrantedAuthority[] authorities = new GrantedAuthority[ROLES.length];
+        for (Role role : ROLES) {
+            authorities[role.ordinal()] = new SimpleGrantedAuthority("ROLE_" + role.name());
+        }
+        return authorities;
+    }
+
+    private static List<List<GrantedAuthority>> buildTable() {
+        int size = Role.allMask() + 1;
+        List<List<GrantedAuthority>> table = new ArrayList<>(size);
+        for (int mask = 0; mask < size; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (Role role : ROLES) {
+                if ((mask & role.bit()) != 0) {
+                    authorities.add(authority(role));
+                }
+            }
+            table.add(Collections.unmodifiableList(authorities));
+        }
+        return List.copyOf(table);
+    }
+}
@@ -1,31 +1,28 @@
 package com.example.collabo.global.security;
 
-import com.example.collabo.domain.user.UserEntity;
-import com.example.collabo.domain.user.UserRepository;
+import com.example.collabo.domain.user.UserAccount;
+import com.example.collabo.domain.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetailsService {
 
-    private final UserRepository userRepository; // JPA Repository
+    private final UserService userService; // 캐시를 거쳐 조회
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity user = userRepository.findByEmail(username)
+        UserAccount user = userService.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
         return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                user.email(),
+                user.password(),
+                AuthorityRegistry.authorities(Role.USER.bit()) // 인터닝된 불변 리스트
         );
     }
 }
@@ -0,0 +1,177 @@
+package com.example.collabo.global.security;
+
+import com.example.collabo.global.config.PasswordHashingProperties;
+import com.example.collabo.global.exception.CustomException;
+import com.example.collabo.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 전용 워커 풀
+ *
+ * 해싱은 CPU를 많이 쓰므로 요청 스레드에서 직접 실행하지 않고 코어 수만큼의 워커에서 실행한다.
+ * 대기열이 가득 차거나 timeout 안에 끝나지 않으면 TOO_MANY_REQUESTS(429)로 거절해서
+ * 로그인 폭주가 다른 요청까지 굶기지 않도록 한다.
+ *
+ * 시간 초과 시 future.cancel(true)는 대기열에 있는 작업만 실제로 취소한다. 이미 실행 중인 BCrypt/Argon2/PBKDF2는
+ * 인터럽트를 확인하지 않으므로 끝까지 워커를 점유한다. 그래서 가득 찬 대기열이 timeout 안에 비워지도록
+ * queue-capacity ≤ workers × timeout / 해싱 시간으로 잡아야 하며, 기동 시 잰 해싱 시간으로 이를 확인해 경고한다.
+ *
+ * 요청을 묶어서(batch) 해싱하지는 않는다. 해시마다 솔트와 비용이 독립적이라 묶어도 줄어드는 계산이 없고,
+ * 코어 수만큼의 워커가 동시에 처리하는 것이 곧 처리 단위다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingService implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final String dummyHash;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutNanos = properties.getTimeout().toNanos();
+
+        int workers = properties.getWorkers() > 0
+                ? properties.getWorkers()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("collabo.password.hash.latency")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("collabo.password.hash.latency")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("collabo.password.queue.wait")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("collabo.password.rejected")
+                .description("대기열 초과/시간 초과로 거절된 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("collabo.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("collabo.password.workers.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        // 없는 계정의 로그인도 같은 비용을 쓰도록 현재 설정으로 더미 해시를 만들어 둔다 (기동 시 해싱 1회)
+        long hashStartedAt = System.nanoTime();
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        long hashNanos = Math.max(System.nanoTime() - hashStartedAt, 1);
+
+        long drainableQueue = (long) workers * timeoutNanos / hashNanos;
+        if (properties.getQueueCapacity() > drainableQueue) {
+            log.warn("[비밀번호 해싱] 해싱 1회 약 {}ms 기준으로 대기열 {}개는 timeout({}) 안에 비워지지 않습니다. "
+                            + "queue-capacity를 {} 이하로 줄이거나 timeout을 늘리세요",
+                    TimeUnit.NANOSECONDS.toMillis(hashNanos), properties.getQueueCapacity(),
+                    properties.getTimeout(), drainableQueue);
+        }
+
+        log.info("[비밀번호 해싱] 워커: {}, 대기열: {}, 알고리즘: {}",
+                workers, properties.getQueueCapacity(), properties.getAlgorithm());
+    }
+
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 계정이 없을 때 matches 대신 호출한다. 고정된 더미 해시와 비교해서 같은 비용을 쓰므로
+     * 응답 시간으로 계정 존재 여부를 알 수 없다.
+     *
+     * @return 항상 false
+     */
+    public boolean matchesDummy(String rawPassword) {
+        matches(rawPassword, dummyHash);
+        return false;
+    }
+
+    /**
+     * 저장된 해시가 현재 설정(알고리즘/강도)보다 약하면 true (해시 파싱만 하므로 가볍다)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(timeoutNanos - (System.nanoTime() - submittedAt), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true); // 대기 중이면 실행되지 않고, 이미 실행 중이면 끝까지 돈다
+            rejected.increment();
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
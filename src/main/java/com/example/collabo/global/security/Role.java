@@ -0,0 +1,33 @@
+package com.example.collabo.global.security;
+
+/**
+ * 권한 역할. 각 역할은 비트 하나에 대응하고, 토큰에는 역할 집합을 비트마스크(int)로 싣는다.
+ * 새 역할은 끝에만 추가한다 (순서 = 비트 위치이므로 기존 토큰의 의미가 바뀌지 않도록).
+ * 역할 ↔ GrantedAuthority 변환은 AuthorityRegistry가 담당한다.
+ */
+public enum Role {
+
+    USER,
+    ADMIN,
+    SERVICE; // 내부 서비스 간 호출
+
+    private static final int ALL_MASK = (1 << values().length) - 1;
+
+    private final int bit = 1 << ordinal();
+
+    public int bit() {
+        return bit;
+    }
+
+    public static int allMask() {
+        return ALL_MASK;
+    }
+
+    public static int maskOf(Role... roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.bit;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.collabo.global.security;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+/**
+ * 역할 비트마스크로 인가 여부를 판단한다.
+ * hasAnyRole(...)과 달리 권한 문자열 비교 없이 비트 AND 한 번으로 끝나며, 결정 객체도 미리 만들어 둔 것을 쓴다.
+ */
+public final class RoleAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final int requiredMask;
+
+    private RoleAuthorizationManager(int requiredMask) {
+        this.requiredMask = requiredMask;
+    }
+
+    public static RoleAuthorizationManager anyOf(Role... roles) {
+        return new RoleAuthorizationManager(Role.maskOf(roles));
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication.get());
+    }
+
+    /**
+     * Spring Security 6.x에서는 아직 추상 메서드라 구현해 둔다 (AuthorizationFilter는 authorize를 호출한다)
+     */
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication.get());
+    }
+
+    private AuthorizationDecision decide(Authentication current) {
+        if (current instanceof TokenAuthentication token) {
+            return token.hasAnyRole(requiredMask) ? GRANTED : DENIED;
+        }
+        // 토큰 외 인증(익명, 테스트용 인증 등)은 권한 목록으로 판단
+        boolean granted = current != null && current.isAuthenticated()
+                && (AuthorityRegistry.maskOf(current.getAuthorities()) & requiredMask) != 0;
+        return granted ? GRANTED : DENIED;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.collabo.global.security;
+
+import com.example.collabo.global.config.RoleGrantProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 토큰에 실을 역할 비트마스크를 계정 이메일로 정한다 (기본 USER + collabo.security.roles 설정)
+ * 발급 시점에 확인하므로 설정을 바꾸면 다음 로그인/재발급부터 반영된다.
+ */
+@Component
+public class RoleGrants {
+
+    private final Map<String, Integer> grantedByEmail = new HashMap<>();
+
+    public RoleGrants(RoleGrantProperties properties) {
+        grant(properties.getAdmins(), Role.ADMIN);
+        grant(properties.getServices(), Role.SERVICE);
+    }
+
+    public int roleMaskOf(String email) {
+        if (email == null) {
+            return Role.USER.bit();
+        }
+        return Role.USER.bit() | grantedByEmail.getOrDefault(normalize(email), 0);
+    }
+
+    private void grant(List<String> emails, Role role) {
+        for (String email : emails) {
+            grantedByEmail.merge(normalize(email), role.bit(), (a, b) -> a | b);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
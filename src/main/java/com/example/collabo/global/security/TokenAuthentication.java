@@ -0,0 +1,93 @@
+package com.example.collabo.global.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 토큰으로 인증된 사용자 (불변)
+ *
+ * UsernamePasswordAuthenticationToken과 달리 권한 목록을 복사하지 않고 AuthorityRegistry의 인터닝된 리스트를 쓴다.
+ * VerifiedToken과 함께 VerifiedTokenCache에 저장되므로 같은 토큰의 요청은 같은 인스턴스를 재사용한다.
+ * principal은 userId 문자열이다 (@AuthenticationPrincipal String userId).
+ */
+public final class TokenAuthentication implements Authentication {
+
+    private final String userId;
+    private final int roleMask;
+
+    public TokenAuthentication(String userId, int roleMask) {
+        this.userId = userId;
+        this.roleMask = roleMask & Role.allMask();
+    }
+
+    public int roleMask() {
+        return roleMask;
+    }
+
+    public boolean hasRole(Role role) {
+        return (roleMask & role.bit()) != 0;
+    }
+
+    /**
+     * @param mask Role.maskOf(...)
+     */
+    public boolean hasAnyRole(int mask) {
+        return (roleMask & mask) != 0;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AuthorityRegistry.authorities(roleMask);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return userId;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (!isAuthenticated) {
+            // 여러 요청이 같은 인스턴스를 공유하므로 상태를 바꿀 수 없다
+            throw new IllegalArgumentException("TokenAuthentication은 변경할 수 없습니다");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TokenAuthentication other && roleMask == other.roleMask && userId.equals(other.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, roleMask);
+    }
+
+    @Override
+    public String toString() {
+        return "TokenAuthentication[userId=" + userId + ", authorities=" + getAuthorities() + "]";
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.collabo.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 파일시스템의 정적 자원을 서빙한다.
+ *
+ * - 빌드 시 만들어 둔 .br / .gz 파일이 있으면 Accept-Encoding에 맞춰 그 파일을 그대로 보낸다 (요청마다 압축하지 않음)
+ * - Tomcat이 sendfile을 지원하면 요청 속성만 지정하고 커널이 파일을 소켓으로 직접 복사한다 (힙/유저 공간 복사 없음)
+ * - 지원하지 않으면 FileChannel.transferTo로 응답 스트림에 쓴다
+ * - 파일명에 콘텐츠 해시가 들어간다는 전제로 "public, max-age=..., immutable"을 붙인다
+ *
+ * Range 요청은 지원하지 않는다 (항상 전체 파일).
+ */
+public class StaticAssetHandler implements HttpRequestHandler {
+
+    // org.apache.catalina.Globals의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final Path root;
+    private final String cacheControl;
+
+    public StaticAssetHandler(Path root, Duration maxAge) {
+        this.root = root.toAbsolutePath().normalize();
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().immutable().getHeaderValue();
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        Path file = resolve((String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE));
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (new ServletWebRequest(request, response).checkNotModified(attributes.lastModifiedTime().toMillis())) {
+            return; // 304
+        }
+
+        // 압축 여부와 무관하게 Content-Type은 원본 파일 기준
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        Path body = file;
+        String encoding = negotiateEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING), file);
+        if (encoding != null) {
+            body = file.resolveSibling(file.getFileName() + (encoding.equals("br") ? ".br" : ".gz"));
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding); // Tomcat의 동적 압축도 이 응답은 건너뛴다
+        }
+
+        long length = Files.size(body);
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(method)) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 서블릿이 반환된 뒤 Tomcat이 sendfile(2)로 전송한다
+            request.setAttribute(SENDFILE_FILENAME, body.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(body, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, out);
+            }
+        }
+    }
+
+    /**
+     * 루트 밖을 가리키는 경로(../ 등)나 디렉터리, 존재하지 않는 파일은 null
+     */
+    private Path resolve(String relativePath) {
+        if (relativePath == null || relativePath.isEmpty()) {
+            return null;
+        }
+        Path file = root.resolve(relativePath).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * br > gzip 순으로, 클라이언트가 받아들이고 미리 압축된 파일이 있는 인코딩을 고른다
+     */
+    private String negotiateEncoding(String acceptEncoding, Path file) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        String accepted = acceptEncoding.toLowerCase(Locale.ROOT);
+        if (accepts(accepted, "br") && Files.isRegularFile(file.resolveSibling(file.getFileName() + ".br"))) {
+            return "br";
+        }
+        if (accepts(accepted, "gzip") && Files.isRegularFile(file.resolveSibling(file.getFileName() + ".gz"))) {
+            return "gzip";
+        }
+        return null;
+    }
+
+    private boolean accepts(String acceptEncoding, String coding) {
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equals(coding)) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?"); // q=0은 거부
+            }
+        }
+        return false;
+    }
+}
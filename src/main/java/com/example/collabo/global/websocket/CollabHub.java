@@ -0,0 +1,191 @@
+package com.example.collabo.global.websocket;
+
+import com.example.collabo.global.config.WebSocketProperties;
+import com.example.collabo.global.jwt.TokenDenylist;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 토픽별 구독자 레지스트리 + 프로세스 내 팬아웃
+ *
+ * - 발행(publish)은 락 없이 구독자 Set(ConcurrentHashMap.newKeySet)을 순회하고, 연결별 송신 큐에 넣기만 한다 (소켓 쓰기 없음)
+ * - 소켓 쓰기는 writer 실행기가 연결별로 순서대로 처리한다 (가상 스레드 모드면 가상 스레드, 아니면 고정 크기 풀)
+ * - 구독/해지는 토픽 단위로만 원자적으로 처리(compute)해서 빈 토픽을 지우는 것과 새 구독이 겹쳐도 유실되지 않는다
+ * - 메시지는 발행 1건당 한 번만 직렬화(TextMessage)하고 모든 구독자가 같은 인스턴스를 공유한다
+ * - 액세스 토큰이 만료되거나 폐기된 연결은 주기적으로 끊는다 (auth-check-interval)
+ *
+ * 지표: collabo.ws.connections, collabo.ws.topics, collabo.ws.messages.delivered, collabo.ws.evicted
+ */
+@Component
+public class CollabHub implements DisposableBean {
+
+    private static final CloseStatus TOKEN_INVALID = CloseStatus.POLICY_VIOLATION.withReason("token expired or revoked");
+
+    private final ConcurrentHashMap<String, Set<CollabSession>> subscribers = new ConcurrentHashMap<>();
+    private final Set<CollabSession> sessions = ConcurrentHashMap.newKeySet();
+    private final TokenDenylist tokenDenylist;
+    private final Executor writer;
+    private final int maxSubscriptions;
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitNanos;
+
+    private final Counter delivered;
+    private final Counter evicted;
+
+    @Autowired
+    public CollabHub(WebSocketProperties properties, MeterRegistry meterRegistry, TokenDenylist tokenDenylist,
+                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(properties, meterRegistry, tokenDenylist, createWriter(properties, virtualThreads));
+    }
+
+    CollabHub(WebSocketProperties properties, MeterRegistry meterRegistry, TokenDenylist tokenDenylist,
+              Executor writer) {
+        this.tokenDenylist = tokenDenylist;
+        this.writer = writer;
+        this.maxSubscriptions = properties.getMaxSubscriptions();
+        this.bufferSizeLimit = properties.getBufferSizeLimit();
+        this.sendTimeLimitNanos = properties.getSendTimeLimit().toNanos();
+        this.delivered = Counter.builder("collabo.ws.messages.delivered")
+                .description("구독자 송신 큐에 넣은 메시지 수")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("collabo.ws.evicted")
+                .description("송신 버퍼/시간 한도 초과로 끊긴 느린 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("collabo.ws.connections", sessions, Set::size)
+                .register(meterRegistry);
+        Gauge.builder("collabo.ws.topics", subscribers, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 핸드셰이크에서 검증한 토큰 정보로 연결을 등록한다.
+     */
+    public CollabSession register(WebSocketSession session, String userId, long jtiHash, long expiresAtMillis) {
+        CollabSession collabSession = new CollabSession(session, userId, jtiHash, expiresAtMillis,
+                writer, bufferSizeLimit, sendTimeLimitNanos, evicted::increment);
+        sessions.add(collabSession);
+        return collabSession;
+    }
+
+    public void unregister(CollabSession session) {
+        for (String topic : session.topics()) {
+            unsubscribe(session, topic);
+        }
+        sessions.remove(session);
+    }
+
+    /**
+     * @return 연결당 구독 한도를 넘으면 false
+     */
+    public boolean subscribe(CollabSession session, String topic) {
+        if (session.topics().size() >= maxSubscriptions && !session.topics().contains(topic)) {
+            return false;
+        }
+        session.topics().add(topic);
+        subscribers.compute(topic, (key, current) -> {
+            Set<CollabSession> target = current != null ? current : ConcurrentHashMap.newKeySet();
+            target.add(session);
+            return target;
+        });
+        return true;
+    }
+
+    public void unsubscribe(CollabSession session, String topic) {
+        session.topics().remove(topic);
+        subscribers.computeIfPresent(topic, (key, current) -> {
+            current.remove(session);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * 구독자별 송신 큐에 넣고 바로 반환한다 (소켓 쓰기를 기다리지 않음)
+     *
+     * @return 큐에 넣은 구독자 수
+     */
+    public int publish(String topic, TextMessage message) {
+        Set<CollabSession> targets = subscribers.get(topic);
+        if (targets == null) {
+            return 0;
+        }
+        int queued = 0;
+        for (CollabSession session : targets) {
+            if (session.send(message) == CollabSession.SendResult.QUEUED) {
+                queued++;
+            } else {
+                unsubscribe(session, topic); // 끊긴 연결 (나머지 토픽은 afterConnectionClosed에서 정리)
+            }
+        }
+        delivered.increment(queued);
+        return queued;
+    }
+
+    /**
+     * 토큰이 만료됐거나 로그아웃으로 폐기된 연결을 끊는다.
+     */
+    @Scheduled(fixedDelayString = "${collabo.websocket.auth-check-interval:PT30S}")
+    public void closeUnauthorizedSessions() {
+        closeUnauthorized(System.currentTimeMillis());
+    }
+
+    /**
+     * @return 끊은 연결 수
+     */
+    int closeUnauthorized(long now) {
+        int closed = 0;
+        for (CollabSession session : sessions) {
+            if (session.isExpired(now) || tokenDenylist.isRevoked(session.getJtiHash())) {
+                session.close(TOKEN_INVALID);
+                unregister(session);
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    public int getConnectionCount() {
+        return sessions.size();
+    }
+
+    public int getSubscriberCount(String topic) {
+        Set<CollabSession> targets = subscribers.get(topic);
+        return targets != null ? targets.size() : 0;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (writer instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (writer instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Executor createWriter(WebSocketProperties properties, boolean virtualThreads) {
+        if (virtualThreads) {
+            // 연결별 drain 작업마다 가상 스레드 (막힌 쓰기가 플랫폼 스레드를 점유하지 않음, Java 21+)
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ws-writer-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        // 막힌 쓰기는 send-time-limit 뒤 실패하므로, 동시에 막힌 연결 수가 스레드 수를 넘으면 그동안 다른 전송이 지연된다
+        return Executors.newFixedThreadPool(properties.getWriterThreads(), new CustomizableThreadFactory("ws-writer-"));
+    }
+}
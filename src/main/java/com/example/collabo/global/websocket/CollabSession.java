@@ -0,0 +1,181 @@
+package com.example.collabo.global.websocket;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 허브에 등록된 연결 1개
+ *
+ * 발행 스레드는 메시지를 연결별 송신 큐에 넣기만 하고 바로 돌아간다. 소켓 쓰기는 writer 실행기에서
+ * 연결당 최대 한 작업(drain)만 순서대로 수행하므로, 느린 구독자가 있어도 발행 요청 스레드는 막히지 않는다.
+ * - 큐에 쌓인 바이트가 buffer-size-limit를 넘으면 느린 소비자로 보고 연결을 끊는다
+ * - 쓰기 한 번이 send-time-limit보다 오래 걸리고 있으면 다음 발행 시점에 끊는다
+ *   (쓰기 자체도 Tomcat BLOCKING_SEND_TIMEOUT으로 같은 시간 뒤 실패한다)
+ */
+public class CollabSession {
+
+    public enum SendResult {
+        QUEUED, EVICTED, CLOSED
+    }
+
+    private final WebSocketSession session;
+    private final String userId;
+    private final long jtiHash;
+    private final long expiresAtMillis;
+    private final Executor writer;
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitNanos;
+    private final Runnable onEvicted;
+
+    private final Set<String> topics = ConcurrentHashMap.newKeySet();
+    private final Queue<TextMessage> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedBytes = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long writeStartedNanos; // 0 이면 쓰는 중이 아님
+
+    CollabSession(WebSocketSession session, String userId, long jtiHash, long expiresAtMillis,
+                  Executor writer, int bufferSizeLimit, long sendTimeLimitNanos, Runnable onEvicted) {
+        this.session = session;
+        this.userId = userId;
+        this.jtiHash = jtiHash;
+        this.expiresAtMillis = expiresAtMillis;
+        this.writer = writer;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimitNanos = sendTimeLimitNanos;
+        this.onEvicted = onEvicted;
+    }
+
+    /**
+     * 송신 큐에 넣는다 (블로킹 없음)
+     */
+    public SendResult send(TextMessage message) {
+        if (closed.get() || !session.isOpen()) {
+            return SendResult.CLOSED;
+        }
+        long started = writeStartedNanos;
+        if (started != 0 && System.nanoTime() - started > sendTimeLimitNanos) {
+            evict();
+            return SendResult.EVICTED;
+        }
+        int size = message.getPayloadLength();
+        if (bufferedBytes.addAndGet(size) > bufferSizeLimit) {
+            bufferedBytes.addAndGet(-size);
+            evict();
+            return SendResult.EVICTED;
+        }
+        outbound.offer(message);
+        scheduleDrain();
+        return SendResult.QUEUED;
+    }
+
+    /**
+     * 연결을 닫는다. 닫기 프레임 전송도 막힐 수 있으므로 writer 실행기에서 수행한다.
+     */
+    public void close(CloseStatus status) {
+        if (closed.compareAndSet(false, true)) {
+            shutdown(status);
+        }
+    }
+
+    private void shutdown(CloseStatus status) {
+        outbound.clear();
+        bufferedBytes.set(0);
+        try {
+            writer.execute(() -> closeQuietly(status));
+        } catch (RejectedExecutionException e) {
+            closeQuietly(status); // 종료 중
+        }
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public String getId() {
+        return session.getId();
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getJtiHash() {
+        return jtiHash;
+    }
+
+    public int getBufferSize() {
+        return bufferedBytes.get();
+    }
+
+    Set<String> topics() {
+        return topics;
+    }
+
+    private void evict() {
+        if (closed.compareAndSet(false, true)) {
+            onEvicted.run();
+            shutdown(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return; // 이미 실행 중인 drain이 이어서 보낸다
+        }
+        try {
+            writer.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close(CloseStatus.SERVICE_RESTARTED);
+        }
+    }
+
+    private void drain() {
+        try {
+            TextMessage message;
+            while (!closed.get() && (message = outbound.poll()) != null) {
+                bufferedBytes.addAndGet(-message.getPayloadLength());
+                long started = System.nanoTime();
+                writeStartedNanos = started;
+                try {
+                    session.sendMessage(message);
+                } catch (IOException | IllegalStateException e) {
+                    if (System.nanoTime() - started >= sendTimeLimitNanos) {
+                        evict(); // 전송 시간 초과 (느린 소비자)
+                    } else {
+                        close(CloseStatus.NORMAL); // 상대가 이미 끊은 연결
+                    }
+                    return;
+                } finally {
+                    writeStartedNanos = 0;
+                }
+            }
+        } finally {
+            draining.set(false);
+            // drain 종료와 새 메시지 추가가 겹쳤을 때 메시지가 큐에 남지 않도록 다시 확인
+            if (!closed.get() && !outbound.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException | IllegalStateException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.collabo.global.websocket;
+
+import com.example.collabo.global.config.WebSocketProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import jakarta.websocket.Session;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 실시간 협업 채널 (/ws/collab)
+ *
+ * 클라이언트 → 서버
+ *   {"type": "subscribe", "topic": "board:1"}
+ *   {"type": "unsubscribe", "topic": "board:1"}
+ *   {"type": "publish", "topic": "board:1", "payload": {...}}
+ * 서버 → 클라이언트
+ *   {"type": "event", "topic": "board:1", "from": "<userId>", "payload": {...}}
+ *   {"type": "error", "message": "..."}
+ */
+@Slf4j
+@Component
+public class CollabWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String SESSION_ATTRIBUTE = CollabSession.class.getName();
+    private static final int MAX_TOPIC_LENGTH = 128;
+    private static final String BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final CollabHub collabHub;
+    private final ObjectMapper objectMapper;
+    private final long sendTimeLimitMillis;
+    private final int maxMessageSize;
+    private final long idleTimeoutMillis;
+
+    public CollabWebSocketHandler(CollabHub collabHub, ObjectMapper objectMapper, WebSocketProperties properties) {
+        this.collabHub = collabHub;
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMillis = properties.getSendTimeLimit().toMillis();
+        this.maxMessageSize = properties.getMaxMessageSize();
+        this.idleTimeoutMillis = properties.getIdleTimeout().toMillis();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // 컨테이너 전역 설정(ServletServerContainerFactoryBean) 대신 연결별로 지정 (MOCK 서블릿 환경에서도 동작)
+        session.setTextMessageSizeLimit(maxMessageSize);
+        Session standardSession = session instanceof NativeWebSocketSession nativeSession
+                ? nativeSession.getNativeSession(Session.class) : null;
+        if (standardSession != null) {
+            standardSession.setMaxIdleTimeout(idleTimeoutMillis);
+            // 막힌 소켓 쓰기가 send-time-limit 뒤 실패하도록 (기본 20초)
+            standardSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT, sendTimeLimitMillis);
+        }
+
+        Map<String, Object> attributes = session.getAttributes();
+        CollabSession collabSession = collabHub.register(session,
+                (String) attributes.get(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE),
+                (Long) attributes.get(JwtHandshakeInterceptor.JTI_HASH_ATTRIBUTE),
+                (Long) attributes.get(JwtHandshakeInterceptor.EXPIRES_AT_ATTRIBUTE));
+        attributes.put(SESSION_ATTRIBUTE, collabSession);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        CollabSession collabSession = (CollabSession) session.getAttributes().get(SESSION_ATTRIBUTE);
+
+        JsonNode frame;
+        try {
+            frame = objectMapper.readTree(message.getPayload());
+        } catch (IOException e) {
+            sendError(collabSession, "잘못된 메시지 형식입니다.");
+            return;
+        }
+        String type = frame.path("type").asText();
+        String topic = frame.path("topic").asText();
+        if (topic.isEmpty() || topic.length() > MAX_TOPIC_LENGTH) {
+            sendError(collabSession, "topic이 필요합니다.");
+            return;
+        }
+
+        switch (type) {
+            case "subscribe" -> {
+                if (!collabHub.subscribe(collabSession, topic)) {
+                    sendError(collabSession, "구독 가능한 토픽 수를 초과했습니다.");
+                }
+            }
+            case "unsubscribe" -> collabHub.unsubscribe(collabSession, topic);
+            case "publish" -> collabHub.publish(topic, event(topic, collabSession.getUserId(), frame.get("payload")));
+            default -> sendError(collabSession, "알 수 없는 type: " + type);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        CollabSession collabSession = (CollabSession) session.getAttributes().get(SESSION_ATTRIBUTE);
+        if (collabSession != null) {
+            collabHub.unregister(collabSession);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("[WebSocket] 전송 오류 - session: {}, {}", session.getId(), exception.getMessage());
+    }
+
+    private TextMessage event(String topic, String from, JsonNode payload) throws IOException {
+        ObjectNode event = objectMapper.createObjectNode()
+                .put("type", "event")
+                .put("topic", topic)
+                .put("from", from);
+        event.set("payload", payload);
+        return new TextMessage(objectMapper.writeValueAsBytes(event));
+    }
+
+    private void sendError(CollabSession session, String message) throws IOException {
+        ObjectNode error = objectMapper.createObjectNode()
+                .put("type", "error")
+                .put("message", message);
+        session.send(new TextMessage(objectMapper.writeValueAsBytes(error)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.collabo.global.websocket;
+
+import com.example.collabo.global.jwt.JwtProvider;
+import com.example.collabo.global.jwt.TokenDenylist;
+import com.example.collabo.global.jwt.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+
+/**
+ * 핸드셰이크 시점에 액세스 토큰을 검증한다.
+ * 연결 이후의 만료/폐기는 CollabHub가 주기적으로 확인해서 연결을 끊는다.
+ * 브라우저 WebSocket API는 헤더를 지정할 수 없으므로 Authorization 헤더가 없으면 access_token 쿼리 파라미터를 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String JTI_HASH_ATTRIBUTE = "jtiHash";
+    public static final String EXPIRES_AT_ATTRIBUTE = "tokenExpiresAt";
+
+    private final JwtProvider jwtProvider;
+    private final TokenDenylist tokenDenylist;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = resolveToken(request);
+        VerifiedToken verified = token != null ? jwtProvider.verify(token) : null;
+        if (verified == null || tokenDenylist.isRevoked(verified.jtiHash())) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(USER_ID_ATTRIBUTE, verified.userId());
+        attributes.put(JTI_HASH_ATTRIBUTE, verified.jtiHash());
+        attributes.put(EXPIRES_AT_ATTRIBUTE, verified.expiresAtMillis());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String bearer = request.getHeaders().getFirst("Authorization");
+        if (bearer != null && bearer.startsWith("Bearer ")) {
+            return bearer.substring(7);
+        }
+        return UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("access_token");
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.collabo.domain.auth;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.collabo.domain.user.UserAccount;
+import com.example.collabo.domain.user.UserService;
+import com.example.collabo.global.aop.ExceptionLoggingAspect;
+import com.example.collabo.global.aop.InstrumentationInterceptor;
+import com.example.collabo.global.aop.LogSampler;
+import com.example.collabo.global.config.InstrumentationConfig;
+import com.example.collabo.global.config.LoggingProperties;
+import com.example.collabo.global.config.PerformanceProperties;
+import com.example.collabo.global.exception.CustomException;
+import com.example.collabo.global.exception.ErrorCode;
+import com.example.collabo.global.jwt.JwtProvider;
+import com.example.collabo.global.metrics.MethodLatencyRecorder;
+import com.example.collabo.global.security.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증 실패 시 예외 로그(pointcut 모드의 ExceptionLoggingAspect, annotation 모드의 InstrumentationInterceptor)에
+ * 비밀번호/토큰이 남지 않는지 검증한다.
+ */
+class AuthServiceTest {
+
+    private static final String PASSWORD = "plain-Secret-123";
+    private static final String ACCESS_TOKEN = "eyJhbGciOiJIUzUxMiJ9.access.signature";
+    private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzUxMiJ9.refresh.signature";
+
+    private final List<Logger> loggers = List.of(
+            (Logger) LoggerFactory.getLogger(ExceptionLoggingAspect.class),
+            (Logger) LoggerFactory.getLogger(InstrumentationInterceptor.class));
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private UserService userService;
+    private PasswordHashingService passwordHashingService;
+    private AuthService target;
+    private LogSampler logSampler;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        loggers.forEach(logger -> logger.addAppender(appender));
+
+        userService = mock(UserService.class);
+        passwordHashingService = mock(PasswordHashingService.class);
+        JwtProvider jwtProvider = mock(JwtProvider.class);
+        when(jwtProvider.parseRefreshToken(anyString())).thenThrow(new CustomException(ErrorCode.INVALID_TOKEN));
+        target = new AuthService(jwtProvider, null, userService, passwordHashingService, null, null);
+        logSampler = new LogSampler(new LoggingProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        loggers.forEach(logger -> logger.detachAppender(appender));
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("없는 이메일로 로그인에 실패해도 예외 로그에 비밀번호가 남지 않는다")
+    void unknownEmailDoesNotLogPassword() {
+        when(userService.findByEmail("nobody@collabo.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> pointcutProxy().login("nobody@collabo.com", PASSWORD))
+                .isInstanceOf(CustomException.class);
+
+        assertThat(messages()).contains("[예외 파라미터] [nobody@collabo.com, ***]")
+                .noneMatch(message -> message.contains(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀려도 예외 로그에 입력한 비밀번호가 남지 않는다")
+    void wrongPasswordDoesNotLogPassword() {
+        when(userService.findByEmail("a@collabo.com"))
+                .thenReturn(Optional.of(new UserAccount(1L, "a@collabo.com", "{bcrypt}hash", 0L)));
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(false);
+
+        assertThatThrownBy(() -> pointcutProxy().login("a@collabo.com", PASSWORD))
+                .isInstanceOf(CustomException.class);
+
+        assertThat(messages()).isNotEmpty().noneMatch(message -> message.contains(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("annotation 모드에서도 로그인/재발급/로그아웃 실패 로그에 비밀번호와 토큰이 남지 않는다")
+    void annotationModeMasksCredentials() {
+        when(userService.findByEmail("nobody@collabo.com")).thenReturn(Optional.empty());
+        AuthService authService = annotationProxy();
+
+        assertThatThrownBy(() -> authService.login("nobody@collabo.com", PASSWORD))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> authService.refresh(REFRESH_TOKEN))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> authService.logout(ACCESS_TOKEN, REFRESH_TOKEN))
+                .isInstanceOf(CustomException.class);
+
+        assertThat(messages()).contains(
+                        "[예외 파라미터] [nobody@collabo.com, ***]",
+                        "[예외 파라미터] [***]",
+                        "[예외 파라미터] [***, ***]")
+                .noneMatch(message -> message.contains(PASSWORD)
+                        || message.contains(ACCESS_TOKEN) || message.contains(REFRESH_TOKEN));
+    }
+
+    private AuthService pointcutProxy() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ExceptionLoggingAspect(logSampler));
+        return proxyFactory.getProxy();
+    }
+
+    private AuthService annotationProxy() {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(InstrumentationConfig.instrumentedPointcut(),
+                new InstrumentationInterceptor(
+                        new MethodLatencyRecorder(new SimpleMeterRegistry(), new PerformanceProperties()), logSampler)));
+        return (AuthService) proxyFactory.getProxy();
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.collabo.domain.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserAccountTest {
+
+    @Test
+    @DisplayName("toString은 비밀번호 해시를 가린다")
+    void toStringRedactsPassword() {
+        UserAccount account = new UserAccount(1L, "a@collabo.com", "{bcrypt}$2a$10$secret-hash", 3L);
+
+        assertThat(account.toString())
+                .isEqualTo("UserAccount[userId=1, email=a@collabo.com, password=***, version=3]")
+                .doesNotContain("secret-hash");
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.collabo.domain.user;
+
+import com.example.collabo.global.config.UserCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheTest {
+
+    private UserCache userCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(new UserCacheProperties(), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("이메일 조회 결과로 userId 캐시를 채우지 않는다 (무효화 후 변경 전 값이 남지 않도록)")
+    void lookupByEmailDoesNotPopulateIdCache() {
+        UserAccount before = new UserAccount(1L, "user@collabo.com", "encoded", 0L);
+        UserAccount after = new UserAccount(1L, "user@collabo.com", "changed", 1L);
+
+        userCache.getByEmail("user@collabo.com", email -> {
+            loads.incrementAndGet();
+            // 조회가 끝나기 전에 다른 요청이 비밀번호를 바꾸고 캐시를 무효화한 상황
+            userCache.invalidate(1L, email);
+            return Optional.of(before);
+        });
+        Optional<UserAccount> byId = userCache.getById(1L, userId -> {
+            loads.incrementAndGet();
+            return Optional.of(after);
+        });
+
+        assertThat(byId).containsSame(after);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 이메일도 캐싱된다")
+    void cachesUnknownEmail() {
+        for (int i = 0; i < 3; i++) {
+            Optional<UserAccount> user = userCache.getByEmail("unknown@collabo.com", email -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+            assertThat(user).isEmpty();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다시 로딩한다")
+    void reloadsAfterInvalidate() {
+        UserAccount user = new UserAccount(1L, "user@collabo.com", "encoded", 0L);
+        userCache.getByEmail("user@collabo.com", email -> {
+            loads.incrementAndGet();
+            return Optional.of(user);
+        });
+
+        userCache.invalidate(1L, "user@collabo.com");
+        userCache.getByEmail("user@collabo.com", email -> {
+            loads.incrementAndGet();
+            return Optional.of(user);
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 미스는 loader 한 번을 공유한다")
+    void concurrentMissesShareLoader() throws Exception {
+        UserAccount user = new UserAccount(1L, "user@collabo.com", "encoded", 0L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<UserAccount>> first = executor.submit(() -> userCache.getByEmail("user@collabo.com", email -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return Optional.of(user);
+            }));
+            loading.await();
+            Future<Optional<UserAccount>> second = executor.submit(() -> userCache.getByEmail("user@collabo.com", email -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            }));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsSame(user);
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsSame(user);
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("loader가 기다리는 동안에도 같은 키 무효화는 막히지 않고, 무효화 전에 읽은 값은 캐시에 남지 않는다")
+    void invalidateDuringLoadIsNotBlocked() throws Exception {
+        UserAccount stale = new UserAccount(1L, "user@collabo.com", "old", 0L);
+        UserAccount fresh = new UserAccount(1L, "user@collabo.com", "new", 1L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<UserAccount>> first = executor.submit(() -> userCache.getByEmail("user@collabo.com", email -> {
+                loading.countDown();
+                await(release); // micro-batch window 대기와 같은 상황
+                return Optional.of(stale);
+            }));
+            loading.await();
+
+            executor.submit(() -> userCache.invalidate(1L, "user@collabo.com")).get(5, TimeUnit.SECONDS);
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsSame(stale);
+
+            Optional<UserAccount> reloaded = userCache.getByEmail("user@collabo.com", email -> Optional.of(fresh));
+            assertThat(reloaded).containsSame(fresh);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.collabo.domain.user;
+
+import com.example.collabo.domain.user.dto.UserPageResponse;
+import com.example.collabo.domain.user.dto.UserSummaryResponse;
+import com.example.collabo.global.exception.ErrorResponseWriter;
+import com.example.collabo.global.exception.GlobalExceptionHandler;
+import com.example.collabo.global.filter.ConditionalGetFilter;
+import com.example.collabo.global.security.Role;
+import com.example.collabo.global.security.TokenAuthentication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETag/Cache-Control 동작과 유저 조회 접근 제한을 ConditionalGetFilter와 함께 검증한다 (보안 필터 체인 제외).
+ */
+class UserControllerTest {
+
+    private static final TokenAuthentication USER_1 = new TokenAuthentication("1", Role.USER.bit());
+    private static final TokenAuthentication USER_2 = new TokenAuthentication("2", Role.USER.bit());
+    private static final TokenAuthentication ADMIN = new TokenAuthentication("9", Role.ADMIN.bit());
+
+    private UserService userService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        when(userService.findById(1L)).thenReturn(Optional.of(new UserAccount(1L, "a@collabo.com", "encoded", 3L)));
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService, new ObjectMapper()))
+                .setControllerAdvice(new GlobalExceptionHandler(new ErrorResponseWriter()))
+                .addFilters(new ConditionalGetFilter())
+                .build();
+    }
+
+    @Test
+    @DisplayName("유저 조회는 version 기반 ETag를 주고, If-None-Match가 같으면 304")
+    void versionEtag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/users/1").principal(USER_1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"u1-v3\""))
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache", "private");
+
+        mockMvc.perform(get("/api/users/1").principal(USER_1).header(HttpHeaders.IF_NONE_MATCH, "\"u1-v3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/users/1").principal(USER_1).header(HttpHeaders.IF_NONE_MATCH, "\"u1-v2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("다른 유저는 조회할 수 없고, ADMIN은 조회할 수 있다")
+    void restrictsOtherUsers() throws Exception {
+        mockMvc.perform(get("/api/users/1").principal(USER_2))
+                .andExpect(status().isForbidden());
+        verify(userService, never()).findById(1L);
+
+        mockMvc.perform(get("/api/users/1").principal(ADMIN))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("컨트롤러가 ETag를 주지 않으면 본문 해시 ETag와 기본 Cache-Control(private, no-cache)이 붙는다")
+    void defaultCacheControlAndShallowEtag() throws Exception {
+        when(userService.findPage(any(), anyInt())).thenReturn(
+                new UserPageResponse(List.of(new UserSummaryResponse(1L, "a@collabo.com")), null, false));
+
+        MvcResult result = mockMvc.perform(get("/api/users").principal(ADMIN))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+
+        mockMvc.perform(get("/api/users").principal(ADMIN)
+                        .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("내보내기는 본문 버퍼링(ETag)에서 빠지고 NDJSON으로 스트리밍된다")
+    void exportOptsOutOfContentCaching() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserSummaryResponse> consumer = invocation.getArgument(0);
+            consumer.accept(new UserSummaryResponse(1L, "a@collabo.com"));
+            consumer.accept(new UserSummaryResponse(2L, "b@collabo.com"));
+            return null;
+        }).when(userService).exportAll(any());
+
+        MvcResult started = mockMvc.perform(get("/api/users/export").principal(ADMIN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(content().string("{\"userId\":1,\"email\":\"a@collabo.com\"}\n"
+                        + "{\"userId\":2,\"email\":\"b@collabo.com\"}\n"));
+    }
+}
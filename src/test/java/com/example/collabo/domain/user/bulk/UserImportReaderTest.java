@@ -0,0 +1,70 @@
+package com.example.collabo.domain.user.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV는 헤더와 빈 줄을 건너뛰고 첫 쉼표 뒤를 비밀번호로 읽는다")
+    void readsCsv() throws Exception {
+        String csv = "email,password\n"
+                + "a@collabo.com,pass,word\n"
+                + "\n"
+                + "\"b@collabo.com\",\"say \"\"hi\"\"\"\n"
+                + "broken-line\n";
+
+        List<ImportRow> rows = readAll(csv, ImportFormat.CSV);
+
+        assertThat(rows).containsExactly(
+                new ImportRow(2, "a@collabo.com", "pass,word"),
+                new ImportRow(4, "b@collabo.com", "say \"hi\""),
+                new ImportRow(5, null, null));
+    }
+
+    @Test
+    @DisplayName("첫 필드가 정확히 email일 때만 헤더로 건너뛴다")
+    void skipsOnlyExactHeader() throws Exception {
+        assertThat(readAll("\uFEFF\"EMAIL\",Password\na@collabo.com,secret\n", ImportFormat.CSV))
+                .containsExactly(new ImportRow(2, "a@collabo.com", "secret"));
+        assertThat(readAll("emailfoo@x.com,secret\n", ImportFormat.CSV))
+                .containsExactly(new ImportRow(1, "emailfoo@x.com", "secret"));
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄씩 읽고 잘못된 줄은 빈 행으로 넘긴다")
+    void readsNdjson() throws Exception {
+        String ndjson = "{\"email\":\"a@collabo.com\",\"password\":\"secret\"}\n"
+                + "{not json}\n"
+                + "{\"email\":\"b@collabo.com\"}\n";
+
+        List<ImportRow> rows = readAll(ndjson, ImportFormat.NDJSON);
+
+        assertThat(rows).containsExactly(
+                new ImportRow(1, "a@collabo.com", "secret"),
+                new ImportRow(2, null, null),
+                new ImportRow(3, "b@collabo.com", null));
+    }
+
+    private List<ImportRow> readAll(String content, ImportFormat format) throws Exception {
+        List<ImportRow> rows = new ArrayList<>();
+        try (UserImportReader reader = new UserImportReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.collabo.domain.user.bulk;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.collabo.domain.user.UserCache;
+import com.example.collabo.global.aop.ExceptionLoggingAspect;
+import com.example.collabo.global.aop.LogSampler;
+import com.example.collabo.global.config.LoggingProperties;
+import com.example.collabo.global.config.PasswordHashingProperties;
+import com.example.collabo.global.config.UserCacheProperties;
+import com.example.collabo.global.config.UserImportProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크 처리(파일 내 중복 제거 → 기존 이메일 제외 → 배치 INSERT → 충돌 시 한 건씩 재시도)를 H2(MySQL 모드)로 검증한다.
+ */
+class UserImportServiceTest {
+
+    private static final String ENCODED = "{bcrypt}$2a$04$abcdefghijklmnopqrstuu5Yk3Kfn0cAv8Sh0Vh2zT6SK2tqVdZ0e";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UserImportProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:user-import;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `user`");
+        jdbcTemplate.execute("CREATE TABLE `user` (user_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "email VARCHAR(255) NOT NULL UNIQUE, password VARCHAR(255) NOT NULL, version BIGINT NOT NULL)");
+        properties = new UserImportProperties();
+        properties.setBatchSize(3);
+        properties.setWorkers(2);
+        properties.setBcryptStrength(4);
+    }
+
+    @Test
+    @DisplayName("파일 안에서 중복된 이메일은 처음 나온 행만 등록하고 중복으로 보고한다")
+    void deduplicatesWithinFile() {
+        ImportSummaryResponse summary = importCsv(new UserBulkRepository(jdbcTemplate,
+                        new NamedParameterJdbcTemplate(jdbcTemplate)),
+                "a@collabo.com,first\na@collabo.com,second\nb@collabo.com," + ENCODED + "\nbroken\n");
+
+        assertThat(summary.getTotal()).isEqualTo(4);
+        assertThat(summary.getImported()).isEqualTo(2);
+        assertThat(summary.getDuplicates()).isEqualTo(1);
+        assertThat(summary.getInvalid()).isEqualTo(1);
+        assertThat(summary.getDuplicateEmails()).containsExactly("a@collabo.com");
+        assertThat(passwordOf("a@collabo.com")).startsWith("{bcrypt}");
+        assertThat(new BCryptPasswordEncoder().matches("first", passwordOf("a@collabo.com").substring(8))).isTrue();
+        assertThat(new BCryptPasswordEncoder().matches(ENCODED, passwordOf("b@collabo.com").substring(8))).isTrue();
+    }
+
+    @Test
+    @DisplayName("accept-encoded-passwords를 켜야만 해싱된 비밀번호를 그대로 저장한다")
+    void storesEncodedPasswordsOnlyWhenEnabled() {
+        properties.setAcceptEncodedPasswords(true);
+
+        importCsv(new UserBulkRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)),
+                "b@collabo.com," + ENCODED + "\nc@collabo.com,{bcrypt}\n");
+
+        assertThat(passwordOf("b@collabo.com")).isEqualTo(ENCODED);
+        assertThat(passwordOf("c@collabo.com")).isNotEqualTo("{bcrypt}").startsWith("{bcrypt}$2a$04$");
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 이메일은 제외하고, 다음 청크의 중복도 기존 이메일로 걸러진다")
+    void excludesExistingEmails() {
+        insert("c@collabo.com", "existing");
+
+        ImportSummaryResponse summary = importCsv(new UserBulkRepository(jdbcTemplate,
+                        new NamedParameterJdbcTemplate(jdbcTemplate)),
+                "c@collabo.com,new\nd@collabo.com,new\ne@collabo.com,new\nd@collabo.com,again\n");
+
+        assertThat(summary.getImported()).isEqualTo(2);
+        assertThat(summary.getDuplicates()).isEqualTo(2);
+        assertThat(summary.getDuplicateEmails()).containsExactly("c@collabo.com", "d@collabo.com");
+        assertThat(passwordOf("c@collabo.com")).isEqualTo("existing");
+    }
+
+    @Test
+    @DisplayName("중복 이메일 목록은 max-reported-duplicates개까지만 담고, 개수는 모두 센다")
+    void limitsReportedDuplicates() {
+        properties.setMaxReportedDuplicates(1);
+
+        ImportSummaryResponse summary = importCsv(new UserBulkRepository(jdbcTemplate,
+                        new NamedParameterJdbcTemplate(jdbcTemplate)),
+                "a@collabo.com,x\na@collabo.com,x\na@collabo.com,x\n");
+
+        assertThat(summary.getDuplicates()).isEqualTo(2);
+        assertThat(summary.getDuplicateEmails()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("사전 확인 뒤 다른 요청이 같은 이메일을 넣으면 배치 대신 한 건씩 다시 넣는다")
+    void fallsBackToRowByRowOnDuplicateKey() {
+        UserBulkRepository racing = new UserBulkRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)) {
+            @Override
+            public Set<String> findExistingEmails(Collection<String> emails) {
+                Set<String> existing = super.findExistingEmails(emails);
+                if (emails.contains("f@collabo.com")) {
+                    insert("f@collabo.com", "raced"); // 확인과 INSERT 사이에 끼어든 등록
+                }
+                return existing;
+            }
+        };
+
+        ImportSummaryResponse summary = importCsv(racing, "f@collabo.com,mine\ng@collabo.com,mine\n");
+
+        assertThat(summary.getImported()).isEqualTo(1);
+        assertThat(summary.getDuplicates()).isEqualTo(1);
+        assertThat(summary.getDuplicateEmails()).containsExactly("f@collabo.com");
+        assertThat(passwordOf("f@collabo.com")).isEqualTo("raced");
+        assertThat(passwordOf("g@collabo.com")).startsWith("{bcrypt}");
+    }
+
+    @Test
+    @DisplayName("INSERT 중 이메일 중복은 결과값으로 돌려주므로 예외 로그에 이메일과 해시가 남지 않는다")
+    void duplicateInsertIsNotLoggedAsException() {
+        insert("h@collabo.com", "existing");
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+                new UserBulkRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ExceptionLoggingAspect(new LogSampler(new LoggingProperties())));
+        UserBulkRepository repository = proxyFactory.getProxy();
+        Logger logger = (Logger) LoggerFactory.getLogger(ExceptionLoggingAspect.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            assertThat(repository.batchInsert(List.<Object[]>of(new Object[]{"h@collabo.com", ENCODED}))).isFalse();
+            assertThat(repository.insertIfAbsent("h@collabo.com", ENCODED)).isFalse();
+            assertThat(repository.insertIfAbsent("i@collabo.com", ENCODED)).isTrue();
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertThat(appender.list).isEmpty();
+        assertThat(new ImportRow(1, "h@collabo.com", "secret").toString())
+                .isEqualTo("ImportRow[lineNumber=1, email=h@collabo.com, password=***]");
+    }
+
+    private ImportSummaryResponse importCsv(UserBulkRepository repository, String csv) {
+        UserImportService service = new UserImportService(
+                repository,
+                new UserCache(new UserCacheProperties(), new SimpleMeterRegistry()),
+                new ObjectMapper(),
+                new DataSourceTransactionManager(dataSource),
+                new BCryptPasswordEncoder(4),
+                new PasswordHashingProperties(),
+                properties);
+        return service.importUsers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV);
+    }
+
+    private void insert(String email, String password) {
+        jdbcTemplate.update("INSERT INTO `user` (email, password, version) VALUES (?, ?, 0)", email, password);
+    }
+
+    private String passwordOf(String email) {
+        return jdbcTemplate.queryForObject("SELECT password FROM `user` WHERE email = ?", String.class, email);
+    }
+}
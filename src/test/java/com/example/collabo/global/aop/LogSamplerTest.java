@@ -0,0 +1,89 @@
+package com.example.collabo.global.aop;
+
+import com.example.collabo.global.config.LoggingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+
+    private static final boolean[] NONE = new boolean[0];
+
+    private LogSampler logSampler;
+
+    @BeforeEach
+    void setUp() {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setArgMaxLength(20);
+        properties.setArgsMaxLength(60);
+        logSampler = new LogSampler(properties);
+    }
+
+    @Test
+    @DisplayName("배열/컬렉션/맵은 원소 단위로 출력한다")
+    void rendersContainersElementByElement() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+
+        assertThat(render(new int[]{1, 2}, List.of("x"), map, new byte[1024], null))
+                .isEqualTo("[[1, 2], [x], [a=1], byte[1024], null]");
+    }
+
+    @Test
+    @DisplayName("큰 컬렉션은 한도에 닿은 뒤의 원소를 문자열로 만들지 않는다")
+    void stopsRenderingAtLimit() {
+        AtomicInteger rendered = new AtomicInteger();
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            elements.add(new Object() {
+                @Override
+                public String toString() {
+                    rendered.incrementAndGet();
+                    return "item";
+                }
+            });
+        }
+
+        String text = render(elements);
+
+        assertThat(text).isEqualTo("[[item, item, item, i...(4 chars), ...(size=100000)]]");
+        assertThat(rendered.get()).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("긴 문자열은 파라미터별 한도에서 자르고, 전체 한도를 넘으면 나머지 파라미터를 생략한다")
+    void truncatesLongValues() {
+        String longText = "a".repeat(1000);
+
+        assertThat(render(longText)).isEqualTo("[" + "a".repeat(20) + "...(1000 chars)]");
+        assertThat(render(longText, longText, longText, longText))
+                .isEqualTo("[" + "a".repeat(20) + "...(1000 chars), " + "a".repeat(20) + "...(1000 chars), ...(2 more)]");
+    }
+
+    @Test
+    @DisplayName("@Sensitive 파라미터는 값 대신 ***로 출력한다")
+    void masksSensitiveParameters() throws Exception {
+        Object args = logSampler.lazyArgs(
+                Target.class.getDeclaredMethod("login", String.class, String.class), new Object[]{"a@collabo.com", "pw"});
+
+        assertThat(args.toString()).isEqualTo("[a@collabo.com, ***]");
+    }
+
+    private String render(Object... args) {
+        return logSampler.lazyArgs(args, NONE).toString();
+    }
+
+    private static final class Target {
+        @SuppressWarnings("unused")
+        void login(String email, @Sensitive String password) {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.collabo.global.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicroBatcherTest {
+
+    @Test
+    @DisplayName("window 안에 들어온 서로 다른 키는 한 번에 조회된다")
+    void mergesKeysWithinWindow() throws Exception {
+        List<List<Long>> batches = new ArrayList<>();
+        // window는 넉넉히 두고, 네 번째 키로 배치가 차는 순간 실행되게 해서 스레드 도착 시각에 의존하지 않는다
+        MicroBatcher<Long, String> batcher = new MicroBatcher<>("test", TimeUnit.SECONDS.toNanos(30), 4,
+                keys -> {
+                    List<Long> batch = new ArrayList<>();
+                    Map<Long, String> values = new HashMap<>();
+                    for (Long key : keys) {
+                        batch.add(key);
+                        if (key != 3L) {
+                            values.put(key, "user-" + key);
+                        }
+                    }
+                    synchronized (batches) {
+                        batches.add(batch);
+                    }
+                    return values;
+                }, new SimpleMeterRegistry());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch ready = new CountDownLatch(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (long key = 1; key <= 4; key++) {
+                long userId = key;
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return batcher.load(userId);
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            // leader도 window(30초)를 다 기다리지 않고 깨어나야 한다
+            assertThat(results.get(0).get(10, TimeUnit.SECONDS)).isEqualTo("user-1");
+            assertThat(results.get(1).get(10, TimeUnit.SECONDS)).isEqualTo("user-2");
+            assertThat(results.get(2).get(10, TimeUnit.SECONDS)).isNull(); // 없는 키
+            assertThat(results.get(3).get(10, TimeUnit.SECONDS)).isEqualTo("user-4");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("maxBatchSize가 차면 window를 기다리지 않고 실행된다")
+    void runsImmediatelyWhenFull() {
+        MicroBatcher<Long, Long> batcher = new MicroBatcher<>("test", TimeUnit.SECONDS.toNanos(10), 1,
+                keys -> Map.of(keys.iterator().next(), 42L), new SimpleMeterRegistry());
+
+        long start = System.nanoTime();
+        assertThat(batcher.load(1L)).isEqualTo(42L);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    @DisplayName("배치가 차지 않으면 window가 지난 뒤 실행된다")
+    void runsAfterWindow() {
+        MicroBatcher<Long, Long> batcher = new MicroBatcher<>("test", TimeUnit.MILLISECONDS.toNanos(50), 100,
+                keys -> Map.of(keys.iterator().next(), 42L), new SimpleMeterRegistry());
+
+        long start = System.nanoTime();
+        assertThat(batcher.load(1L)).isEqualTo(42L);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.collabo.global.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키 동시 호출은 실행 중인 호출 결과를 공유한다")
+    void sharesInFlightCall() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = executor.submit(() -> singleFlight.execute("a@collabo.com", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return 1;
+            }));
+            started.await();
+            Future<Integer> second = executor.submit(() -> singleFlight.execute("a@collabo.com", () -> {
+                calls.incrementAndGet();
+                return 2;
+            }));
+            Thread.sleep(200); // 두 번째 호출이 대기 상태에 들어갈 시간
+            release.countDown();
+
+            assertThat(first.get()).isEqualTo(1);
+            assertThat(second.get()).isEqualTo(1);
+            assertThat(calls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.collabo.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstrumentedDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource target = new DriverManagerDataSource(
+                "jdbc:h2:mem:instrumented;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(target);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(16))");
+        jdbcTemplate.execute("DELETE FROM item");
+
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new InstrumentedDataSource(target, "test", meterRegistry, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcRequestStats.end();
+    }
+
+    @Test
+    @DisplayName("쿼리 종류별 실행 시간과 조회 행 수를 기록하고 요청 통계에 누적한다")
+    void recordsStatementsAndRows() {
+        JdbcRequestStats stats = JdbcRequestStats.begin();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.batchUpdate("INSERT INTO item (name) VALUES (?)",
+                List.of(new Object[]{"a"}, new Object[]{"b"}, new Object[]{"c"}));
+        jdbcTemplate.update("UPDATE item SET name = ? WHERE name = ?", "z", "c");
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM item ORDER BY id", String.class);
+
+        assertThat(names).containsExactly("a", "b", "z");
+        assertThat(statementCount("insert")).isEqualTo(1); // 배치는 한 번
+        assertThat(statementCount("update")).isEqualTo(1);
+        assertThat(statementCount("select")).isEqualTo(1);
+        assertThat(meterRegistry.get("collabo.jdbc.rows.fetched").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("collabo.jdbc.connection.acquire").timer().count()).isEqualTo(3);
+        assertThat(stats.getStatements()).isEqualTo(3);
+        assertThat(stats.getRows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Statement/ResultSet에서 되짚어 가도 계측 래퍼가 나오고, 래퍼는 자기 자신과 같다")
+    void keepsWrappersAcrossNavigation() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO item (name) VALUES (?)", Statement.RETURN_GENERATED_KEYS);
+             Statement statement = connection.createStatement();
+             CallableStatement call = connection.prepareCall("SELECT 1")) {
+            assertThat(connection).isEqualTo(connection).hasSameHashCodeAs(connection);
+            assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+            assertThat(connection.isWrapperFor(Connection.class)).isTrue();
+            assertThat(insert.getConnection()).isSameAs(connection);
+            assertThat(statement.getConnection()).isSameAs(connection);
+            assertThat(call.getConnection()).isSameAs(connection);
+
+            insert.setString(1, "a");
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                assertThat(keys.getStatement()).isSameAs(insert);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT name FROM item")) {
+                assertThat(resultSet.getStatement()).isSameAs(statement);
+                assertThat(resultSet.next()).isTrue();
+                assertThat(resultSet.getString(1)).isEqualTo("a");
+                assertThat(resultSet.next()).isFalse();
+            }
+
+            assertThat(statement.execute("SELECT name FROM item")).isTrue();
+            try (ResultSet resultSet = statement.getResultSet()) {
+                assertThat(resultSet.getStatement()).isSameAs(statement);
+            }
+        }
+
+        assertThat(statementCount("insert")).isEqualTo(1);
+        assertThat(statementCount("select")).isEqualTo(2);
+        assertThat(meterRegistry.get("collabo.jdbc.rows.fetched").counter().count()).isEqualTo(1); // next()가 true인 경우만
+    }
+
+    @Test
+    @DisplayName("SQL 앞부분으로 쿼리 종류를 구분한다")
+    void classifiesOperation() {
+        assertThat(InstrumentedDataSource.operationOf("  (select 1)")).isEqualTo(InstrumentedDataSource.Operation.SELECT);
+        assertThat(InstrumentedDataSource.operationOf("WITH t AS (SELECT 1) SELECT * FROM t"))
+                .isEqualTo(InstrumentedDataSource.Operation.SELECT);
+        assertThat(InstrumentedDataSource.operationOf("Delete FROM item")).isEqualTo(InstrumentedDataSource.Operation.DELETE);
+        assertThat(InstrumentedDataSource.operationOf("CREATE TABLE t (id INT)")).isEqualTo(InstrumentedDataSource.Operation.OTHER);
+        assertThat(InstrumentedDataSource.operationOf(null)).isEqualTo(InstrumentedDataSource.Operation.OTHER);
+    }
+
+    private long statementCount(String operation) {
+        return meterRegistry.get("collabo.jdbc.statement").tag("operation", operation).timer().count();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.collabo.global.datasource;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaLagMonitorTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private DataSource replica;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        replica = mock(DataSource.class);
+        monitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("REPLICATION CLIENT 권한이 없으면(1227) 연결 실패와 구분해서 ERROR로 한 번만 알린다")
+    void reportsMissingReplicationClientGrant() throws Exception {
+        when(replica.getConnection()).thenThrow(new SQLException(
+                "Access denied; you need (at least one of) the SUPER, REPLICATION CLIENT privilege(s)", "42000", 1227));
+
+        monitor.check();
+        monitor.check();
+
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(appender.list).hasSize(2); // 권한 부족 + 사용 중지 전환
+        assertThat(appender.list.get(0).getLevel()).isEqualTo(Level.ERROR);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("권한 부족", "REPLICATION CLIENT");
+    }
+
+    @Test
+    @DisplayName("연결할 수 없으면 연결 실패로 기록한다")
+    void reportsUnreachableReplica() throws Exception {
+        when(replica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("replica - Connection is not available"))
+                .thenThrow(new SQLException("Communications link failure", "08S01", 0));
+
+        monitor.check();
+        monitor.check();
+
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .filteredOn(message -> message.contains("연결 실패"))
+                .hasSize(1);
+        assertThat(appender.list).noneMatch(event -> event.getFormattedMessage().contains("권한 부족"));
+    }
+}
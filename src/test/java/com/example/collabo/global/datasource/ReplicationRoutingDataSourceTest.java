@@ -0,0 +1,89 @@
+package com.example.collabo.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프라이머리/레플리카를 H2 인메모리 DB 두 개로 대신해서 라우팅을 검증한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = h2("primary");
+        DriverManagerDataSource replica = h2("replica");
+
+        // 운영 설정(DataSourceRoutingConfig)과 같이 레플리카 감시 결과로 라우팅한다
+        replicaLagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, replicaLagMonitor::isAvailable));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 간다")
+    void readOnlyGoesToReplica() {
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 간다")
+    void readWriteGoesToPrimary() {
+        assertThat(nodeIn(readWriteTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("레플리카 사용 불가 시 읽기도 프라이머리로 간다")
+    void fallsBackToPrimaryWhenReplicaUnavailable() {
+        replicaLagMonitor.markAvailable(false);
+
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("레플리카 상태 확인에 실패하면 읽기도 프라이머리로 가고, 복구되면 다시 레플리카로 간다")
+    void fallsBackToPrimaryWhenLagCheckFails() {
+        replicaLagMonitor.check(); // H2는 SHOW REPLICA STATUS를 지원하지 않으므로 확인 실패
+
+        assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+
+        replicaLagMonitor.markAvailable(true);
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.collabo.global.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+
+    private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("ErrorCode 템플릿은 CommonErrorResponse와 같은 JSON을 만든다")
+    void writesErrorCodeTemplate() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        errorResponseWriter.write(response, ErrorCode.INVALID_TOKEN);
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(body.get("message").asText()).isEqualTo(ErrorCode.INVALID_TOKEN.getMessage());
+        assertThat(body.get("error").asText()).isEqualTo("Unauthorized");
+        assertThat(body.get("statusCode").asInt()).isEqualTo(401);
+        assertThat(LocalDateTime.parse(body.get("timestamp").asText())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("동적 메시지는 JSON 이스케이프된다")
+    void escapesDynamicMessage() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        errorResponseWriter.write(response, HttpStatus.BAD_REQUEST, "잘못된 값: \"a\\b\"\n");
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("message").asText()).isEqualTo("잘못된 값: \"a\\b\"\n");
+        assertThat(body.get("statusCode").asInt()).isEqualTo(400);
+    }
+}
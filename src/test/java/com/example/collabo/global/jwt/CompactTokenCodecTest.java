@@ -0,0 +1,127 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.config.CompactTokenProperties;
+import com.example.collabo.global.config.JwtConfig;
+import com.example.collabo.global.security.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactTokenCodecTest {
+
+    private static final long JTI_HASH = 0x1234_5678_9ABC_DEF0L;
+
+    private byte[] secret;
+    private CompactTokenCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setAccessSecret(Base64.getEncoder().encodeToString(secret));
+        CompactTokenProperties properties = new CompactTokenProperties();
+        properties.setEnabled(true);
+        codec = new CompactTokenCodec(jwtConfig, properties);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰을 그대로 검증하면 같은 값이 나온다 (만료는 초 단위 내림, 정의되지 않은 역할 비트는 버림)")
+    void roundTrip() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        VerifiedToken verified = codec.verify(codec.issue(Long.MAX_VALUE, 0xFFFF_FFFF, expiresAt, JTI_HASH));
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.userId()).isEqualTo(Long.toString(Long.MAX_VALUE));
+        assertThat(verified.roleMask()).isEqualTo(Role.allMask());
+        assertThat(verified.jtiHash()).isEqualTo(JTI_HASH);
+        assertThat(verified.expiresAtMillis()).isEqualTo(expiresAt / 1000 * 1000);
+    }
+
+    @Test
+    @DisplayName("페이로드나 MAC의 비트 하나만 바뀌어도 거부한다")
+    void rejectsFlippedBit() {
+        byte[] bytes = decode(codec.issue(42, 1, System.currentTimeMillis() + 60_000, JTI_HASH));
+
+        byte[] payloadFlipped = bytes.clone();
+        payloadFlipped[0] ^= 0x01;
+        byte[] macFlipped = bytes.clone();
+        macFlipped[bytes.length - 1] ^= 0x01;
+
+        assertThat(codec.verify(encode(payloadFlipped))).isNull();
+        assertThat(codec.verify(encode(macFlipped))).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부한다")
+    void rejectsExpired() {
+        assertThat(codec.verify(codec.issue(42, 1, System.currentTimeMillis() - 1_000, JTI_HASH))).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘거나 Base64 길이가 4n+1인 입력은 거부한다")
+    void rejectsMalformedLength() {
+        assertThat(codec.verify(CompactTokenCodec.PREFIX + "A".repeat(100))).isNull();
+        assertThat(codec.verify(CompactTokenCodec.PREFIX + "A".repeat(41))).isNull(); // 41 % 4 == 1
+        assertThat(codec.verify(CompactTokenCodec.PREFIX + "A".repeat(5))).isNull();
+        assertThat(codec.verify(CompactTokenCodec.PREFIX + "!!!!")).isNull();
+    }
+
+    @Test
+    @DisplayName("MAC이 맞아도 varint가 너무 길면 거부한다")
+    void rejectsOverlongVarint() throws Exception {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        for (int i = 0; i < 11; i++) {
+            payload.write(0xFF); // 이어짐 비트가 계속 켜진 varint
+        }
+        payload.write(1);
+        payload.write(new byte[12]);
+
+        assertThat(codec.verify(encode(signed(payload.toByteArray())))).isNull();
+    }
+
+    @Test
+    @DisplayName("MAC이 맞아도 정해진 필드 뒤에 남는 바이트가 있으면 거부한다")
+    void rejectsTrailingBytes() throws Exception {
+        byte[] bytes = decode(codec.issue(42, 1, System.currentTimeMillis() + 60_000, JTI_HASH));
+        byte[] payload = Arrays.copyOf(bytes, bytes.length - 16 + 1); // MAC을 떼고 0 바이트 하나 추가
+
+        assertThat(codec.verify(encode(signed(Arrays.copyOf(bytes, bytes.length - 16))))).isNotNull();
+        assertThat(codec.verify(encode(signed(payload)))).isNull();
+    }
+
+    /**
+     * 코덱과 같은 방식으로 파생한 키로 MAC을 붙인다.
+     */
+    private byte[] signed(byte[] payload) throws Exception {
+        Mac derive = Mac.getInstance("HmacSHA256");
+        derive.init(new SecretKeySpec(secret, "HmacSHA256"));
+        byte[] key = derive.doFinal("collabo-compact-token-v1".getBytes(StandardCharsets.US_ASCII));
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        byte[] tag = mac.doFinal(payload);
+        byte[] result = Arrays.copyOf(payload, payload.length + 16);
+        System.arraycopy(tag, 0, result, payload.length, 16);
+        return result;
+    }
+
+    private static byte[] decode(String token) {
+        return Base64.getUrlDecoder().decode(token.substring(CompactTokenCodec.PREFIX.length()));
+    }
+
+    private static String encode(byte[] bytes) {
+        return CompactTokenCodec.PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
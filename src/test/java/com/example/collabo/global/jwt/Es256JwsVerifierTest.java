@@ -0,0 +1,129 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.config.JwtConfig;
+import com.example.collabo.global.config.JwtSigningProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Es256JwsVerifierTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JwtKeyRing keyRing;
+    private SecretKey legacySecret;
+    private JwtParser legacyParser;
+
+    @BeforeEach
+    void setUp() {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setAlgorithm("ES256");
+        properties.setKeyDir(tempDir.toString());
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setRefreshTokenValidity(Duration.ofDays(7).toMillis());
+        keyRing = new JwtKeyRing(properties, jwtConfig);
+        keyRing.init();
+
+        legacySecret = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        legacyParser = Jwts.parserBuilder().setSigningKey(legacySecret).build();
+    }
+
+    @Test
+    @DisplayName("키 링의 키로 서명한 토큰을 검증하고 헤더를 캐시한다")
+    void verifiesAndCachesHeader() {
+        Es256JwsVerifier verifier = new Es256JwsVerifier(keyRing, null);
+        String token = es256(keyRing.signingKey().kid(), 60_000);
+
+        Claims claims = verifier.parseClaims(token);
+        verifier.parseClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo("1");
+        assertThat(verifier.cachedHeaderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException")
+    void rejectsExpired() {
+        Es256JwsVerifier verifier = new Es256JwsVerifier(keyRing, null);
+        String token = es256(keyRing.signingKey().kid(), -1_000);
+
+        assertThatThrownBy(() -> verifier.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("페이로드를 바꾼 토큰은 서명 오류이고, 헤더를 캐시하지 않는다")
+    void rejectsTampered() {
+        Es256JwsVerifier verifier = new Es256JwsVerifier(keyRing, null);
+        String[] parts = es256(keyRing.signingKey().kid(), 60_000).split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"2\"}".getBytes(StandardCharsets.UTF_8));
+        String tampered = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertThatThrownBy(() -> verifier.parseClaims(tampered)).isInstanceOf(SignatureException.class);
+        assertThat(verifier.cachedHeaderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("모르는 kid나 다른 키의 kid를 단 토큰은 서명 오류")
+    void rejectsWrongKid() throws Exception {
+        Es256JwsVerifier verifier = new Es256JwsVerifier(keyRing, null);
+        String unknownKid = es256("unknown", 60_000);
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        String otherKeyKid = Jwts.builder()
+                .setHeaderParam("kid", keyRing.signingKey().kid())
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(generator.generateKeyPair().getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        assertThatThrownBy(() -> verifier.parseClaims(unknownKid)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> verifier.parseClaims(otherKeyKid)).isInstanceOf(SignatureException.class);
+        assertThat(verifier.cachedHeaderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("HS512 토큰은 legacyParser가 있을 때만 받는다")
+    void legacyHs512Fallback() {
+        String legacy = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(legacySecret, SignatureAlgorithm.HS512)
+                .compact();
+
+        assertThat(new Es256JwsVerifier(keyRing, legacyParser).parseClaims(legacy).getSubject()).isEqualTo("1");
+        assertThatThrownBy(() -> new Es256JwsVerifier(keyRing, null).parseClaims(legacy))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    private String es256(String kid, long validityMillis) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + validityMillis))
+                .signWith(keyRing.signingKey().privateKey(), SignatureAlgorithm.ES256)
+                .compact();
+    }
+}
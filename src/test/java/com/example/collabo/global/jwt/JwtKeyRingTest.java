@@ -0,0 +1,160 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.config.JwtConfig;
+import com.example.collabo.global.config.JwtSigningProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtKeyRingTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JwtSigningProperties properties;
+    private JwtConfig jwtConfig;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtSigningProperties();
+        properties.setAlgorithm("ES256");
+        properties.setKeyDir(tempDir.toString());
+        properties.setRotationPeriod(Duration.ofDays(7));
+        properties.setPublishAhead(Duration.ofHours(1));
+        jwtConfig = new JwtConfig();
+        jwtConfig.setRefreshTokenValidity(Duration.ofDays(7).toMillis());
+    }
+
+    @Test
+    @DisplayName("키가 없으면 새 키를 만들어 디스크에 저장한다")
+    void generatesFirstKey() {
+        JwtKeyRing keyRing = keyRing();
+
+        assertThat(keyRing.size()).isEqualTo(1);
+        String kid = keyRing.signingKey().kid();
+        assertThat(tempDir.resolve(kid + ".key")).exists();
+        assertThat(tempDir.resolve(kid + ".pub")).exists();
+    }
+
+    @Test
+    @DisplayName("교체 주기에서 publish-ahead를 뺀 시점이 지나지 않았으면 새 키를 만들지 않는다")
+    void rotationNotDue() throws Exception {
+        String kid = writeKey(Instant.now().minus(Duration.ofDays(7)).plus(Duration.ofHours(2)));
+
+        JwtKeyRing keyRing = keyRing();
+
+        assertThat(keyRing.size()).isEqualTo(1);
+        assertThat(keyRing.signingKey().kid()).isEqualTo(kid);
+    }
+
+    @Test
+    @DisplayName("교체 시점이 되면 새 키를 만들지만, publish-ahead 동안은 이전 키로 서명한다")
+    void rotationDuePublishesAhead() throws Exception {
+        String previous = writeKey(Instant.now().minus(Duration.ofDays(7)).plus(Duration.ofMinutes(30)));
+
+        JwtKeyRing keyRing = keyRing();
+
+        assertThat(keyRing.size()).isEqualTo(2);
+        assertThat(keyRing.signingKey().kid()).isEqualTo(previous);
+        assertThat(jwkIds(keyRing)).hasSize(2).contains(previous);
+    }
+
+    @Test
+    @DisplayName("활성화 시각(생성 + publish-ahead)이 지난 가장 최근 키로 서명한다")
+    void signingKeyActivation() throws Exception {
+        writeKey(Instant.now().minus(Duration.ofDays(3)));
+        String activated = writeKey(Instant.now().minus(Duration.ofHours(2)));
+        writeKey(Instant.now().minus(Duration.ofMinutes(30)));
+
+        JwtKeyRing keyRing = keyRing();
+
+        assertThat(keyRing.size()).isEqualTo(3);
+        assertThat(keyRing.signingKey().kid()).isEqualTo(activated);
+    }
+
+    @Test
+    @DisplayName("다음 키가 활성화된 뒤 보존 기간이 지난 키는 삭제하고, 그 전까지는 검증용으로 남긴다")
+    void retention() throws Exception {
+        String expired = writeKey(Instant.now().minus(Duration.ofDays(20)));
+        String retained = writeKey(Instant.now().minus(Duration.ofDays(12)));
+        String current = writeKey(Instant.now().minus(Duration.ofDays(3)));
+
+        JwtKeyRing keyRing = keyRing();
+
+        assertThat(keyRing.find(expired)).isNull();
+        assertThat(tempDir.resolve(expired + ".key")).doesNotExist();
+        assertThat(tempDir.resolve(expired + ".pub")).doesNotExist();
+        assertThat(keyRing.find(retained)).isNotNull();
+        assertThat(keyRing.signingKey().kid()).isEqualTo(current);
+        assertThat(jwkIds(keyRing)).containsExactlyInAnyOrder(retained, current);
+    }
+
+    @Test
+    @DisplayName("JWK 좌표는 부호 바이트를 떼고 앞자리 0을 채워 항상 32바이트다")
+    void jwkCoordinatePadding() {
+        byte[] highBit = new byte[32];
+        Arrays.fill(highBit, (byte) 0xFF);
+
+        assertThat(decode(JwtKeyRing.SigningKey.coordinate(BigInteger.ONE)))
+                .hasSize(32)
+                .endsWith((byte) 1)
+                .startsWith(new byte[31]);
+        assertThat(decode(JwtKeyRing.SigningKey.coordinate(new BigInteger(1, highBit))))
+                .isEqualTo(highBit);
+    }
+
+    @Test
+    @DisplayName("JWKS의 x/y는 공개 키 좌표와 일치한다")
+    void jwkMatchesPublicKey() {
+        JwtKeyRing keyRing = keyRing();
+        JwtKeyRing.SigningKey key = keyRing.signingKey();
+
+        Map<String, Object> jwk = key.toJwk();
+
+        assertThat(jwk).containsEntry("kid", key.kid()).containsEntry("crv", "P-256");
+        assertThat(new BigInteger(1, decode((String) jwk.get("x")))).isEqualTo(key.publicKey().getW().getAffineX());
+        assertThat(new BigInteger(1, decode((String) jwk.get("y")))).isEqualTo(key.publicKey().getW().getAffineY());
+    }
+
+    private JwtKeyRing keyRing() {
+        JwtKeyRing keyRing = new JwtKeyRing(properties, jwtConfig);
+        keyRing.init();
+        return keyRing;
+    }
+
+    private String writeKey(Instant createdAt) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair pair = generator.generateKeyPair();
+        String kid = Long.toString(createdAt.getEpochSecond(), 36);
+        Files.write(tempDir.resolve(kid + ".key"), pair.getPrivate().getEncoded());
+        Files.write(tempDir.resolve(kid + ".pub"), pair.getPublic().getEncoded());
+        return kid;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> jwkIds(JwtKeyRing keyRing) {
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) keyRing.jwks().get("keys");
+        return keys.stream().map(jwk -> jwk.get("kid")).toList();
+    }
+
+    private static byte[] decode(String base64Url) {
+        return Base64.getUrlDecoder().decode(base64Url);
+    }
+}
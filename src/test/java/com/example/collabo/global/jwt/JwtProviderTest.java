@@ -0,0 +1,110 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.config.CompactTokenProperties;
+import com.example.collabo.global.config.JwtConfig;
+import com.example.collabo.global.config.JwtSigningProperties;
+import com.example.collabo.global.security.Role;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtProviderTest {
+
+    private byte[] secret;
+    private VerifiedTokenCache cache;
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setAccessSecret(Base64.getEncoder().encodeToString(secret));
+        JwtSigningProperties signingProperties = new JwtSigningProperties(); // HS512
+        cache = new VerifiedTokenCache(100);
+        jwtProvider = new JwtProvider(jwtConfig, new JwtSecretHashUtil(), cache,
+                new JwtKeyRing(signingProperties, jwtConfig), signingProperties,
+                new CompactTokenCodec(jwtConfig, new CompactTokenProperties()));
+        jwtProvider.init();
+    }
+
+    @Test
+    @DisplayName("발급한 액세스 토큰은 rol 클레임의 역할로 인증된다")
+    void verifiesRoleMaskClaim() {
+        VerifiedToken verified = jwtProvider.verify(
+                jwtProvider.generateAccessToken(7L, "a@example.com", Role.maskOf(Role.USER, Role.ADMIN)));
+
+        assertThat(verified.userId()).isEqualTo("7");
+        assertThat(verified.roleMask()).isEqualTo(Role.maskOf(Role.USER, Role.ADMIN));
+        assertThat(verified.authentication().getPrincipal()).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("rol 클레임이 없는 이전 토큰은 roles 목록을 변환한다")
+    void convertsLegacyRolesClaim() {
+        String token = legacyToken().claim("roles", List.of("ROLE_ADMIN", "SERVICE")).compact();
+
+        assertThat(jwtProvider.verify(token).roleMask()).isEqualTo(Role.maskOf(Role.ADMIN, Role.SERVICE));
+    }
+
+    @Test
+    @DisplayName("역할 클레임이 없거나 아는 역할이 없으면 USER로 본다")
+    void defaultsToUser() {
+        assertThat(jwtProvider.verify(legacyToken().compact()).roleMask()).isEqualTo(Role.USER.bit());
+        assertThat(jwtProvider.verify(legacyToken().claim("roles", List.of("ROLE_GUEST")).compact()).roleMask())
+                .isEqualTo(Role.USER.bit());
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 검증 캐시에서 같은 불변 Authentication 인스턴스를 돌려준다")
+    void sharesCachedAuthentication() {
+        String token = jwtProvider.generateAccessToken(7L, "a@example.com");
+
+        VerifiedToken first = jwtProvider.verify(token);
+        VerifiedToken second = jwtProvider.verify(token);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(second.authentication()).isSameAs(first.authentication());
+        assertThat(jwtProvider.findVerified(token)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰과 위조된 토큰은 인증에 쓸 수 없다")
+    void rejectsRefreshAndTamperedTokens() {
+        String access = jwtProvider.generateAccessToken(7L, "a@example.com");
+
+        assertThat(jwtProvider.verify(jwtProvider.generateRefreshToken(7L))).isNull();
+        assertThat(jwtProvider.verify(tamper(access))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    // 서명 중간의 한 글자를 바꾼다 (마지막 글자는 패딩 비트만 바뀔 수 있으므로 피한다)
+    private static String tamper(String token) {
+        char[] chars = token.toCharArray();
+        int index = chars.length - 10;
+        chars[index] = chars[index] == 'A' ? 'B' : 'A';
+        return new String(chars);
+    }
+
+    private JwtBuilder legacyToken() {
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject("7")
+                .claim(JwtProvider.TOKEN_TYPE_CLAIM, JwtProvider.ACCESS_TOKEN_TYPE)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(new SecretKeySpec(secret, "HmacSHA512"), SignatureAlgorithm.HS512);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.collabo.global.jwt;
+
+import com.example.collabo.global.exception.CustomException;
+import com.example.collabo.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenDenylistTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기 상태로 조회된다")
+    void revokedTokenIsDetected() throws Exception {
+        TokenDenylist denylist = new TokenDenylist(tempDir.resolve("denylist.bin").toString(), 1024);
+        long revoked = TokenDenylist.hashJti(UUID.randomUUID().toString());
+        long other = TokenDenylist.hashJti(UUID.randomUUID().toString());
+
+        assertThat(denylist.revoke(revoked, System.currentTimeMillis() + 60_000)).isTrue();
+        assertThat(denylist.revoke(revoked, System.currentTimeMillis() + 60_000)).isFalse();
+
+        assertThat(denylist.isRevoked(revoked)).isTrue();
+        assertThat(denylist.isRevoked(other)).isFalse();
+        denylist.destroy();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목은 폐기 상태가 아니다")
+    void expiredEntryIsIgnored() throws Exception {
+        TokenDenylist denylist = new TokenDenylist(tempDir.resolve("denylist.bin").toString(), 1024);
+        long jtiHash = TokenDenylist.hashJti("expired");
+
+        denylist.revoke(jtiHash, System.currentTimeMillis() - 1);
+
+        assertThat(denylist.isRevoked(jtiHash)).isFalse();
+        denylist.destroy();
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 파일에서 폐기 목록이 복원된다")
+    void survivesRestart() throws Exception {
+        String file = tempDir.resolve("denylist.bin").toString();
+        long jtiHash = TokenDenylist.hashJti(UUID.randomUUID().toString());
+
+        TokenDenylist first = new TokenDenylist(file, 1024);
+        first.revoke(jtiHash, System.currentTimeMillis() + 60_000);
+        first.destroy();
+
+        TokenDenylist reopened = new TokenDenylist(file, 1024);
+        assertThat(reopened.isRevoked(jtiHash)).isTrue();
+        assertThat(reopened.size()).isEqualTo(1);
+        reopened.destroy();
+    }
+
+    @Test
+    @DisplayName("테이블이 가득 차면 false 대신 예외로 알린다")
+    void fullTableThrows() throws Exception {
+        TokenDenylist denylist = new TokenDenylist(tempDir.resolve("denylist.bin").toString(), 1024);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 1; i <= denylist.capacity(); i++) {
+            assertThat(denylist.revoke(i, expiresAt)).isTrue();
+        }
+
+        assertThat(denylist.revoke(1, expiresAt)).isFalse(); // 이미 폐기된 토큰은 여전히 false
+        assertThatThrownBy(() -> denylist.revoke(denylist.capacity() + 1, expiresAt))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOKEN_DENYLIST_FULL));
+        denylist.destroy();
+    }
+
+    @Test
+    @DisplayName("만료된 슬롯을 재사용한 항목도 바로 폐기 상태로 조회된다")
+    void reusedSlotIsRevoked() throws Exception {
+        TokenDenylist denylist = new TokenDenylist(tempDir.resolve("denylist.bin").toString(), 1024);
+        for (int i = 1; i <= denylist.capacity(); i++) {
+            denylist.revoke(i, System.currentTimeMillis() - 1);
+        }
+        long jtiHash = TokenDenylist.hashJti(UUID.randomUUID().toString());
+
+        assertThat(denylist.revoke(jtiHash, System.currentTimeMillis() + 60_000)).isTrue();
+        assertThat(denylist.isRevoked(jtiHash)).isTrue();
+        denylist.destroy();
+    }
+
+    @Test
+    @DisplayName("만료 항목을 정리해도 같은 클러스터에 있던 유효 항목은 계속 조회된다")
+    void sweepKeepsLiveEntriesReachable() throws Exception {
+        TokenDenylist denylist = new TokenDenylist(tempDir.resolve("denylist.bin").toString(), 1024);
+        long now = System.currentTimeMillis();
+        List<Long> live = new ArrayList<>();
+        for (int i = 1; i <= 900; i++) {
+            long jtiHash = TokenDenylist.hashJti("jti-" + i);
+            boolean expired = i % 9 != 0;
+            denylist.revoke(jtiHash, expired ? now - 1 : now + 60_000);
+            if (!expired) {
+                live.add(jtiHash);
+            }
+        }
+
+        int before = denylist.size(); // 삽입 중에 만료 슬롯이 재사용되므로 900보다 작다
+        assertThat(denylist.sweepExpired()).isEqualTo(before - live.size());
+
+        assertThat(denylist.size()).isEqualTo(live.size());
+        assertThat(live).allMatch(denylist::isRevoked);
+        assertThat(denylist.sweepExpired()).isZero();
+        denylist.destroy();
+    }
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올리되, 2^30보다 큰 값도 넘치지 않고 상한으로 자른다")
+    void clampsCapacity() {
+        assertThat(TokenDenylist.tableCapacity(0)).isEqualTo(1024);
+        assertThat(TokenDenylist.tableCapacity(1025)).isEqualTo(2048);
+        assertThat(TokenDenylist.tableCapacity(4_194_304)).isEqualTo(4_194_304);
+        assertThat(TokenDenylist.tableCapacity((1 << 30) + 1)).isEqualTo(1 << 26);
+        assertThat(TokenDenylist.tableCapacity(Integer.MAX_VALUE)).isEqualTo(1 << 26);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.collabo.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterBackendTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1) / 10; // 초당 10건
+
+    @Test
+    @DisplayName("burst 만큼 허용한 뒤 거절한다")
+    void rejectsAfterBurst() {
+        LocalRateLimiterBackend backend = new LocalRateLimiterBackend();
+        long tolerance = 4 * INTERVAL; // burst 5
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(backend.tryAcquire("ip:1", INTERVAL, tolerance)).isZero();
+        }
+        assertThat(backend.tryAcquire("ip:1", INTERVAL, tolerance)).isPositive();
+        assertThat(backend.tryAcquire("ip:2", INTERVAL, tolerance)).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 키만 정리된다")
+    void evictsOnlyIdleKeys() {
+        LocalRateLimiterBackend backend = new LocalRateLimiterBackend();
+        backend.tryAcquire("busy", TimeUnit.HOURS.toNanos(1), 0);
+        backend.tryAcquire("idle", 1, 0);
+
+        backend.evictIdle();
+
+        assertThat(backend.size()).isEqualTo(1);
+    }
+}
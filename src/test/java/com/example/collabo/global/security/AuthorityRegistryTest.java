@@ -0,0 +1,44 @@
+package com.example.collabo.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthorityRegistryTest {
+
+    @Test
+    @DisplayName("같은 마스크면 같은 불변 리스트를 돌려주고, 정의되지 않은 비트는 무시한다")
+    void internsAuthorityLists() {
+        int mask = Role.maskOf(Role.USER, Role.ADMIN);
+
+        List<GrantedAuthority> authorities = AuthorityRegistry.authorities(mask);
+
+        assertThat(authorities).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(AuthorityRegistry.authorities(mask)).isSameAs(authorities);
+        assertThat(AuthorityRegistry.authorities(mask | 1 << 30)).isSameAs(authorities);
+        assertThat(AuthorityRegistry.authorities(0)).isEmpty();
+        assertThat(AuthorityRegistry.authorities(Role.USER.bit()).get(0)).isSameAs(AuthorityRegistry.authority(Role.USER));
+        assertThatThrownBy(() -> authorities.add(AuthorityRegistry.authority(Role.SERVICE)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("권한 목록과 이전 형식의 roles 이름을 마스크로 바꾸고, 모르는 값은 무시한다")
+    void convertsAuthoritiesAndNamesToMask() {
+        assertThat(AuthorityRegistry.maskOf(List.of(
+                new SimpleGrantedAuthority("ROLE_ADMIN"),
+                new SimpleGrantedAuthority("ROLE_SERVICE"),
+                new SimpleGrantedAuthority("SCOPE_read"))))
+                .isEqualTo(Role.maskOf(Role.ADMIN, Role.SERVICE));
+
+        assertThat(AuthorityRegistry.maskOfNames(List.of("ROLE_USER", "ADMIN", "UNKNOWN")))
+                .isEqualTo(Role.maskOf(Role.USER, Role.ADMIN));
+        assertThat(AuthorityRegistry.maskOfNames(List.of("admin"))).isZero();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.collabo.global.security;
+
+import com.example.collabo.global.config.PasswordHashingProperties;
+import com.example.collabo.global.exception.CustomException;
+import com.example.collabo.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("없는 계정용 비교도 실제 해시 비교를 한 번 거치고 항상 false")
+    void dummyMatchRunsRealComparison() {
+        AtomicInteger matches = new AtomicInteger();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        service = new PasswordHashingService(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return bcrypt.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                matches.incrementAndGet();
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+        }, properties(1, 4, Duration.ofSeconds(5)), new SimpleMeterRegistry());
+
+        assertThat(service.matchesDummy("password")).isFalse();
+        assertThat(matches).hasValue(1);
+
+        String encoded = service.encode("password");
+        assertThat(service.matches("password", encoded)).isTrue();
+        assertThat(service.matches("other", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 TOO_MANY_REQUESTS로 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger encodes = new AtomicInteger();
+        service = new PasswordHashingService(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (encodes.incrementAndGet() > 1) { // 첫 호출은 생성자의 더미 해시
+                    started.countDown();
+                    await(release);
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        }, properties(1, 1, Duration.ofSeconds(5)), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("b"));
+        waitForQueueDepth(meterRegistry, 1);
+
+        assertThatThrownBy(() -> service.encode("c"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    private static void waitForQueueDepth(SimpleMeterRegistry meterRegistry, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("collabo.password.queue.depth").gauge().value() < depth) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PasswordHashingProperties properties(int workers, int queueCapacity, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setWorkers(workers);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        return properties;
+    }
+}
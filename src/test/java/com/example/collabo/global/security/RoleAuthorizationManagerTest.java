@@ -0,0 +1,44 @@
+package com.example.collabo.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleAuthorizationManagerTest {
+
+    private final RoleAuthorizationManager adminOrService = RoleAuthorizationManager.anyOf(Role.ADMIN, Role.SERVICE);
+
+    @Test
+    @DisplayName("토큰 인증은 역할 마스크가 하나라도 겹치면 허용한다")
+    void checksTokenRoleMask() {
+        assertThat(granted(new TokenAuthentication("1", Role.ADMIN.bit()))).isTrue();
+        assertThat(granted(new TokenAuthentication("1", Role.maskOf(Role.USER, Role.SERVICE)))).isTrue();
+        assertThat(granted(new TokenAuthentication("1", Role.USER.bit()))).isFalse();
+        assertThat(granted(new TokenAuthentication("1", 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 외 인증은 인증된 경우에만 ROLE_ 권한 목록으로 판단한다")
+    void checksOtherAuthenticationsByAuthorities() {
+        assertThat(granted(UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")))).isTrue();
+        assertThat(granted(UsernamePasswordAuthenticationToken.authenticated(
+                "user", null, AuthorityUtils.createAuthorityList("ROLE_USER", "ADMIN")))).isFalse();
+        Authentication revoked = UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+        revoked.setAuthenticated(false);
+        assertThat(granted(revoked)).isFalse();
+        assertThat(granted(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")))).isFalse();
+        assertThat(granted(null)).isFalse();
+    }
+
+    private boolean granted(Authentication authentication) {
+        return adminOrService.authorize(() -> authentication, null).isGranted();
+    }
+}
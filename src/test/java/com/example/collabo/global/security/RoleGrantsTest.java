@@ -0,0 +1,37 @@
+package com.example.collabo.global.security;
+
+import com.example.collabo.global.config.RoleGrantProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleGrantsTest {
+
+    @Test
+    @DisplayName("설정에 등록된 서비스 계정은 USER에 SERVICE가 더해지고, 나머지는 USER만 가진다")
+    void grantsServiceRoleToConfiguredAccounts() {
+        RoleGrantProperties properties = new RoleGrantProperties();
+        properties.setServices(List.of(" Batch@Collabo.com "));
+        RoleGrants roleGrants = new RoleGrants(properties);
+
+        assertThat(roleGrants.roleMaskOf("batch@collabo.com")).isEqualTo(Role.maskOf(Role.USER, Role.SERVICE));
+        assertThat(roleGrants.roleMaskOf("BATCH@collabo.com")).isEqualTo(Role.maskOf(Role.USER, Role.SERVICE));
+        assertThat(roleGrants.roleMaskOf("user@collabo.com")).isEqualTo(Role.USER.bit());
+        assertThat(roleGrants.roleMaskOf(null)).isEqualTo(Role.USER.bit());
+    }
+
+    @Test
+    @DisplayName("관리자 목록과 서비스 계정 목록에 모두 있으면 두 역할이 합쳐진다")
+    void combinesAdminAndServiceGrants() {
+        RoleGrantProperties properties = new RoleGrantProperties();
+        properties.setAdmins(List.of("admin@collabo.com", "ops@collabo.com"));
+        properties.setServices(List.of("ops@collabo.com"));
+        RoleGrants roleGrants = new RoleGrants(properties);
+
+        assertThat(roleGrants.roleMaskOf("admin@collabo.com")).isEqualTo(Role.maskOf(Role.USER, Role.ADMIN));
+        assertThat(roleGrants.roleMaskOf("ops@collabo.com")).isEqualTo(Role.allMask());
+    }
+}
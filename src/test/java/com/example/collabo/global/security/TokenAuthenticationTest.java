@@ -0,0 +1,57 @@
+package com.example.collabo.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenAuthenticationTest {
+
+    @Test
+    @DisplayName("principal과 이름은 userId이고, 권한은 AuthorityRegistry의 인터닝된 리스트다")
+    void exposesUserIdAndInternedAuthorities() {
+        TokenAuthentication authentication = new TokenAuthentication("42", Role.maskOf(Role.USER, Role.SERVICE));
+
+        assertThat(authentication.getPrincipal()).isEqualTo("42");
+        assertThat(authentication.getName()).isEqualTo("42");
+        assertThat(authentication.getCredentials()).isNull();
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getAuthorities())
+                .isSameAs(AuthorityRegistry.authorities(Role.maskOf(Role.USER, Role.SERVICE)));
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 역할 비트는 버리고, 역할 검사는 비트 AND로 한다")
+    void masksUndefinedBits() {
+        TokenAuthentication authentication = new TokenAuthentication("42", Role.ADMIN.bit() | 1 << 20);
+
+        assertThat(authentication.roleMask()).isEqualTo(Role.ADMIN.bit());
+        assertThat(authentication.hasRole(Role.ADMIN)).isTrue();
+        assertThat(authentication.hasRole(Role.USER)).isFalse();
+        assertThat(authentication.hasAnyRole(Role.maskOf(Role.USER, Role.ADMIN))).isTrue();
+        assertThat(authentication.hasAnyRole(Role.maskOf(Role.USER, Role.SERVICE))).isFalse();
+        assertThat(authentication.hasAnyRole(1 << 20)).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 간 공유되므로 인증 해제로 바꿀 수 없다")
+    void isImmutable() {
+        TokenAuthentication authentication = new TokenAuthentication("42", Role.USER.bit());
+
+        authentication.setAuthenticated(true);
+        assertThatThrownBy(() -> authentication.setAuthenticated(false)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(authentication.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("userId와 역할 마스크가 같으면 같다")
+    void equalsByUserIdAndMask() {
+        TokenAuthentication authentication = new TokenAuthentication("42", Role.USER.bit());
+
+        assertThat(authentication).isEqualTo(new TokenAuthentication("42", Role.USER.bit() | 1 << 20));
+        assertThat(authentication).hasSameHashCodeAs(new TokenAuthentication("42", Role.USER.bit()));
+        assertThat(authentication).isNotEqualTo(new TokenAuthentication("42", Role.ADMIN.bit()));
+        assertThat(authentication).isNotEqualTo(new TokenAuthentication("43", Role.USER.bit()));
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.collabo.global.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticAssetHandlerTest {
+
+    private static final long LAST_MODIFIED = 1_700_000_000_000L; // 초 단위로 떨어지는 값 (HTTP 날짜 정밀도)
+
+    @TempDir
+    Path tempDir;
+
+    private Path root;
+    private StaticAssetHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        root = Files.createDirectories(tempDir.resolve("public"));
+        Files.createDirectories(root.resolve("js"));
+        write(root.resolve("js/app.js"), "console.log('plain');");
+        write(root.resolve("js/app.js.br"), "br-body");
+        write(root.resolve("js/app.js.gz"), "gzip-body");
+        write(root.resolve("style.css"), "body{}");
+        write(root.resolve("style.css.gz"), "css-gzip");
+        write(tempDir.resolve("secret.txt"), "secret");
+        handler = new StaticAssetHandler(root, Duration.ofDays(365));
+    }
+
+    @Test
+    @DisplayName("br을 받아들이면 미리 압축된 .br 파일을 원본 Content-Type으로 보낸다")
+    void servesPrecompressedBrotli() throws Exception {
+        MockHttpServletResponse response = handle(get("js/app.js", "gzip, br"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("br");
+        assertThat(response.getContentType()).contains("javascript");
+        assertThat(response.getContentAsString()).isEqualTo("br-body");
+        assertThat(response.getContentLengthLong()).isEqualTo("br-body".length());
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getHeader("Cache-Control")).contains("public", "max-age=31536000", "immutable");
+    }
+
+    @Test
+    @DisplayName("br;q=0이면 br을 거부한 것으로 보고 gzip으로 내려간다")
+    void brotliWithZeroQualityFallsBackToGzip() throws Exception {
+        MockHttpServletResponse response = handle(get("js/app.js", "br;q=0, gzip"));
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getContentAsString()).isEqualTo("gzip-body");
+    }
+
+    @Test
+    @DisplayName(".br 파일이 없으면 br을 받아들여도 gzip을 보낸다")
+    void fallsBackToGzipWhenBrotliFileIsMissing() throws Exception {
+        MockHttpServletResponse response = handle(get("style.css", "br, gzip"));
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getContentType()).startsWith("text/css");
+        assertThat(response.getContentAsString()).isEqualTo("css-gzip");
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding이 없으면 원본 파일을 보낸다")
+    void servesIdentityWithoutAcceptEncoding() throws Exception {
+        MockHttpServletResponse response = handle(get("js/app.js", null));
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("console.log('plain');");
+    }
+
+    @Test
+    @DisplayName("루트 밖을 가리키는 경로는 인코딩 여부와 무관하게 404")
+    void rejectsTraversal() throws Exception {
+        assertThat(handle(get("../secret.txt", null)).getStatus()).isEqualTo(404);
+        assertThat(handle(get("js/../../secret.txt", null)).getStatus()).isEqualTo(404);
+        assertThat(handle(get(tempDir.resolve("secret.txt").toString(), null)).getStatus()).isEqualTo(404);
+        // 디코딩되지 않은 채로 들어와도 파일명으로만 취급된다
+        assertThat(handle(get("%2e%2e/secret.txt", null)).getStatus()).isEqualTo(404);
+        assertThat(handle(get("..%2fsecret.txt", null)).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("디렉터리, 빈 경로, 없는 파일은 404")
+    void rejectsDirectoriesAndMissingFiles() throws Exception {
+        assertThat(handle(get("js", null)).getStatus()).isEqualTo(404);
+        assertThat(handle(get("js/", null)).getStatus()).isEqualTo(404);
+        assertThat(handle(get("", null)).getStatus()).isEqualTo(404);
+        assertThat(handle(get("missing.js", null)).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("HEAD는 헤더와 Content-Length만 보내고 본문은 쓰지 않는다")
+    void headWritesHeadersOnly() throws Exception {
+        MockHttpServletRequest request = get("js/app.js", "gzip");
+        request.setMethod("HEAD");
+
+        MockHttpServletResponse response = handle(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getContentLengthLong()).isEqualTo("gzip-body".length());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET/HEAD가 아니면 405")
+    void rejectsOtherMethods() throws Exception {
+        MockHttpServletRequest request = get("js/app.js", null);
+        request.setMethod("POST");
+
+        assertThat(handle(request).getStatus()).isEqualTo(405);
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since가 수정 시각 이후면 본문 없이 304")
+    void notModifiedSinceLastModified() throws Exception {
+        MockHttpServletRequest request = get("js/app.js", "br");
+        request.addHeader("If-Modified-Since", LAST_MODIFIED);
+
+        MockHttpServletResponse response = handle(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getHeader("Cache-Control")).contains("immutable");
+
+        MockHttpServletRequest stale = get("js/app.js", "br");
+        stale.addHeader("If-Modified-Since", LAST_MODIFIED - 60_000);
+        assertThat(handle(stale).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("sendfile을 지원하면 본문을 쓰지 않고 요청 속성으로 넘긴다")
+    void delegatesToSendfile() throws Exception {
+        MockHttpServletRequest request = get("js/app.js", "br");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        MockHttpServletResponse response = handle(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(root.resolve("js/app.js.br").toAbsolutePath().normalize().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) "br-body".length());
+    }
+
+    private MockHttpServletResponse handle(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String path, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/assets/" + path);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, path);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        return request;
+    }
+
+    private static void write(Path file, String content) throws Exception {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(LAST_MODIFIED));
+    }
+}
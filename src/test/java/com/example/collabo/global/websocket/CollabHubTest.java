@@ -0,0 +1,179 @@
+package com.example.collabo.global.websocket;
+
+import com.example.collabo.global.config.WebSocketProperties;
+import com.example.collabo.global.jwt.TokenDenylist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollabHubTest {
+
+    private static final TextMessage MESSAGE = new TextMessage("{\"type\":\"event\",\"topic\":\"board:1\"}");
+
+    @TempDir
+    Path tempDir;
+
+    private WebSocketProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenDenylist tokenDenylist;
+    private ExecutorService writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WebSocketProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        tokenDenylist = new TokenDenylist(tempDir.resolve("denylist.bin").toString(), 1024);
+        writer = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writer.shutdownNow();
+        tokenDenylist.destroy();
+    }
+
+    @Test
+    @DisplayName("구독한 토픽의 메시지만 받고, 마지막 구독자가 해지하면 토픽이 제거된다")
+    void subscribeAndUnsubscribe() {
+        CollabHub hub = hub(Runnable::run);
+        TestWebSocketSession first = new TestWebSocketSession("1");
+        TestWebSocketSession second = new TestWebSocketSession("2");
+        CollabSession firstSession = hub.register(first, "1", 1L, Long.MAX_VALUE);
+        CollabSession secondSession = hub.register(second, "2", 2L, Long.MAX_VALUE);
+
+        hub.subscribe(firstSession, "board:1");
+        hub.subscribe(secondSession, "board:2");
+        assertThat(hub.publish("board:1", MESSAGE)).isEqualTo(1);
+        assertThat(first.received()).hasSize(1);
+        assertThat(second.received()).isEmpty();
+
+        hub.unsubscribe(firstSession, "board:1");
+        assertThat(hub.publish("board:1", MESSAGE)).isZero();
+        assertThat(hub.getSubscriberCount("board:1")).isZero();
+        assertThat(meterRegistry.get("collabo.ws.topics").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연결 해제 시 모든 구독이 정리된다")
+    void unregisterRemovesAllTopics() {
+        CollabHub hub = hub(Runnable::run);
+        CollabSession session = hub.register(new TestWebSocketSession("1"), "1", 1L, Long.MAX_VALUE);
+        hub.subscribe(session, "board:1");
+        hub.subscribe(session, "board:2");
+
+        hub.unregister(session);
+
+        assertThat(hub.getConnectionCount()).isZero();
+        assertThat(hub.getSubscriberCount("board:1")).isZero();
+        assertThat(hub.getSubscriberCount("board:2")).isZero();
+        assertThat(meterRegistry.get("collabo.ws.topics").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("연결당 구독 한도를 넘으면 구독이 거부된다")
+    void rejectsSubscriptionsOverLimit() {
+        properties.setMaxSubscriptions(1);
+        CollabHub hub = hub(Runnable::run);
+        CollabSession session = hub.register(new TestWebSocketSession("1"), "1", 1L, Long.MAX_VALUE);
+
+        assertThat(hub.subscribe(session, "board:1")).isTrue();
+        assertThat(hub.subscribe(session, "board:1")).isTrue(); // 이미 구독한 토픽
+        assertThat(hub.subscribe(session, "board:2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("느린 구독자는 발행 스레드를 막지 않고, 송신 큐 한도를 넘으면 끊긴다")
+    void slowConsumerIsEvictedWithoutBlockingPublisher() throws Exception {
+        properties.setBufferSizeLimit(MESSAGE.getPayloadLength() * 2);
+        CollabHub hub = hub(writer);
+        CountDownLatch release = new CountDownLatch(1);
+        TestWebSocketSession slow = new TestWebSocketSession("slow", release);
+        TestWebSocketSession fast = new TestWebSocketSession("fast");
+        hub.subscribe(hub.register(slow, "1", 1L, Long.MAX_VALUE), "board:1");
+        hub.subscribe(hub.register(fast, "2", 2L, Long.MAX_VALUE), "board:1");
+
+        // fast가 받을 때까지 기다린 뒤 다음 메시지를 발행해서 fast의 큐에는 많아야 1건만 쌓이게 한다.
+        // 한도(2건)를 넘는 것은 막힌 slow뿐이다 (첫 메시지는 소켓 쓰기에서 막히고 나머지는 큐에 쌓인다).
+        long publishNanos = 0;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            hub.publish("board:1", MESSAGE);
+            publishNanos += System.nanoTime() - start;
+            awaitReceived(fast, i + 1);
+        }
+        assertThat(publishNanos).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(slow.closedLatch().await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slow.closeStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("collabo.ws.evicted").counter().count()).isEqualTo(1.0);
+        assertThat(hub.getSubscriberCount("board:1")).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("소켓 쓰기가 send-time-limit보다 오래 걸리면 다음 발행에서 끊긴다")
+    void stuckWriteIsEvicted() throws Exception {
+        properties.setSendTimeLimit(Duration.ofMillis(50));
+        CollabHub hub = hub(writer);
+        CountDownLatch release = new CountDownLatch(1);
+        TestWebSocketSession slow = new TestWebSocketSession("slow", release);
+        CollabSession session = hub.register(slow, "1", 1L, Long.MAX_VALUE);
+        hub.subscribe(session, "board:1");
+
+        assertThat(session.send(MESSAGE)).isEqualTo(CollabSession.SendResult.QUEUED);
+        Thread.sleep(100); // 첫 쓰기가 막힌 채로 한도를 넘김
+
+        assertThat(session.send(MESSAGE)).isEqualTo(CollabSession.SendResult.EVICTED);
+        assertThat(slow.closedLatch().await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("토큰이 만료되거나 폐기된 연결은 끊긴다")
+    void closesExpiredAndRevokedSessions() {
+        CollabHub hub = hub(Runnable::run);
+        long now = System.currentTimeMillis();
+        TestWebSocketSession expired = new TestWebSocketSession("expired");
+        TestWebSocketSession revoked = new TestWebSocketSession("revoked");
+        TestWebSocketSession valid = new TestWebSocketSession("valid");
+        hub.subscribe(hub.register(expired, "1", 1L, now - 1), "board:1");
+        hub.subscribe(hub.register(revoked, "2", 2L, now + 60_000), "board:1");
+        hub.subscribe(hub.register(valid, "3", 3L, now + 60_000), "board:1");
+        tokenDenylist.revoke(2L, now + 60_000);
+
+        assertThat(hub.closeUnauthorized(now)).isEqualTo(2);
+
+        assertThat(expired.closeStatus().getCode()).isEqualTo(CloseStatus.POLICY_VIOLATION.getCode());
+        assertThat(revoked.closeStatus().getCode()).isEqualTo(CloseStatus.POLICY_VIOLATION.getCode());
+        assertThat(valid.isOpen()).isTrue();
+        assertThat(hub.getConnectionCount()).isEqualTo(1);
+        assertThat(hub.getSubscriberCount("board:1")).isEqualTo(1);
+    }
+
+    private CollabHub hub(Executor executor) {
+        return new CollabHub(properties, meterRegistry, tokenDenylist, executor);
+    }
+
+    private static void awaitReceived(TestWebSocketSession session, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (session.received().size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(session.received()).hasSize(count);
+    }
+}
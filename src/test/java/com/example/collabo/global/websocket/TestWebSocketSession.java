@@ -0,0 +1,145 @@
+package com.example.collabo.global.websocket;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 받은 메시지와 종료 상태를 기록하는 테스트용 세션. release 래치를 주면 sendMessage가 그때까지 막힌다 (느린 소비자).
+ */
+class TestWebSocketSession implements WebSocketSession {
+
+    private final String id;
+    private final CountDownLatch release;
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final List<String> received = new ArrayList<>();
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private volatile CloseStatus closeStatus;
+
+    TestWebSocketSession(String id) {
+        this(id, null);
+    }
+
+    TestWebSocketSession(String id, CountDownLatch release) {
+        this.id = id;
+        this.release = release;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (release != null) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (received) {
+            received.add((String) message.getPayload());
+        }
+    }
+
+    List<String> received() {
+        synchronized (received) {
+            return List.copyOf(received);
+        }
+    }
+
+    CloseStatus closeStatus() {
+        return closeStatus;
+    }
+
+    CountDownLatch closedLatch() {
+        return closed;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return null;
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return HttpHeaders.EMPTY;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return closeStatus == null;
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        closeStatus = status;
+        closed.countDown();
+    }
+}